@@ -8,16 +8,23 @@ export const ManagerDashboard = () => {
   const { user, logout } = useAuth();
   const navigate = useNavigate();
   const [vendors, setVendors] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
   const [loading, setLoading] = useState(true);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [error, setError] = useState('');
   const [filter, setFilter] = useState('');
 
+  const fetchPage = (cursor) => axiosInstance.get('/vendors', {
+    params: { status: filter || undefined, cursor: cursor || undefined },
+  });
+
   useEffect(() => {
     const fetchVendors = async () => {
+      setLoading(true);
       try {
-        const url = filter ? `/vendors?status=${filter}` : '/vendors';
-        const response = await axiosInstance.get(url);
-        setVendors(response.data);
+        const response = await fetchPage(null);
+        setVendors(response.data.items);
+        setNextCursor(response.data.nextCursor);
       } catch (err) {
         setError('Failed to load vendors');
         console.error(err);
@@ -29,6 +36,20 @@ export const ManagerDashboard = () => {
     fetchVendors();
   }, [filter]);
 
+  const handleLoadMore = async () => {
+    setLoadingMore(true);
+    try {
+      const response = await fetchPage(nextCursor);
+      setVendors((loaded) => [...loaded, ...response.data.items]);
+      setNextCursor(response.data.nextCursor);
+    } catch (err) {
+      setError('Failed to load vendors');
+      console.error(err);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   const handleApprove = async (vendorId) => {
     try {
       await axiosInstance.patch(`/vendors/${vendorId}/approve`, {
@@ -128,6 +149,11 @@ export const ManagerDashboard = () => {
                 </tbody>
               </table>
             )}
+            {nextCursor && (
+              <button className="load-more-btn" onClick={handleLoadMore} disabled={loadingMore}>
+                {loadingMore ? 'Loading...' : 'Load more'}
+              </button>
+            )}
           </div>
         )}
       </main>
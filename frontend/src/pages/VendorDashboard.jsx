@@ -8,14 +8,17 @@ export const VendorDashboard = () => {
   const { user, logout } = useAuth();
   const navigate = useNavigate();
   const [vendors, setVendors] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
   const [loading, setLoading] = useState(true);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [error, setError] = useState('');
 
   useEffect(() => {
     const fetchVendors = async () => {
       try {
         const response = await axiosInstance.get('/vendors');
-        setVendors(response.data);
+        setVendors(response.data.items);
+        setNextCursor(response.data.nextCursor);
       } catch (err) {
         setError('Failed to load vendors');
         console.error(err);
@@ -27,6 +30,20 @@ export const VendorDashboard = () => {
     fetchVendors();
   }, []);
 
+  const handleLoadMore = async () => {
+    setLoadingMore(true);
+    try {
+      const response = await axiosInstance.get('/vendors', { params: { cursor: nextCursor } });
+      setVendors((loaded) => [...loaded, ...response.data.items]);
+      setNextCursor(response.data.nextCursor);
+    } catch (err) {
+      setError('Failed to load vendors');
+      console.error(err);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   const handleLogout = () => {
     logout();
     navigate('/login');
@@ -88,6 +105,11 @@ export const VendorDashboard = () => {
                 </tbody>
               </table>
             )}
+            {nextCursor && (
+              <button className="load-more-btn" onClick={handleLoadMore} disabled={loadingMore}>
+                {loadingMore ? 'Loading...' : 'Load more'}
+              </button>
+            )}
           </div>
         )}
       </main>
@@ -0,0 +1,150 @@
+package com.vendorcompliance.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import com.vendorcompliance.entity.AuditAction;
+import com.vendorcompliance.entity.AuditFlag;
+import com.vendorcompliance.entity.AuditLog;
+import com.vendorcompliance.entity.DocumentType;
+import com.vendorcompliance.entity.Vendor;
+import com.vendorcompliance.entity.VendorComplianceState;
+import com.vendorcompliance.entity.VendorDocument;
+import com.vendorcompliance.entity.VendorStatus;
+
+/**
+ * Deterministic entity generators for benchmarks: a vendor with N documents spread over the document types
+ * (roughly a quarter of them expired) and M audit flags, plus the {@code vendor_compliance_state} rows the
+ * database would derive from them.
+ */
+public final class SyntheticData {
+
+    private static final DocumentType[] DOCUMENT_TYPES = DocumentType.values();
+
+    private SyntheticData() {
+    }
+
+    public static Random random() {
+        return new Random(42);
+    }
+
+    public static Vendor vendor(long vendorId) {
+        Vendor vendor = new Vendor();
+        vendor.setId(vendorId);
+        vendor.setLegalName("Benchmark Vendor " + vendorId + " Holdings Ltd");
+        vendor.setTradingName("Benchmark Vendor " + vendorId);
+        vendor.setRegistrationNumber("REG-" + (1_000_000 + vendorId));
+        vendor.setEmail("vendor" + vendorId + "@example.com");
+        vendor.setPhone("+1-555-" + (1000 + vendorId % 9000));
+        vendor.setAddress(vendorId + " Market Street, Springfield");
+        vendor.setStatus(VendorStatus.APPROVED);
+        vendor.setRiskScore(40);
+        vendor.setOnboardingNotes("Generated for benchmarks");
+        vendor.setCreatedBy("benchmark");
+        vendor.prePersist();
+        vendor.setLastRiskCalculatedAt(LocalDateTime.now());
+        return vendor;
+    }
+
+    /**
+     * Documents in upload order; ids increase with upload time, as they do with the pooled sequence.
+     */
+    public static List<VendorDocument> documents(Vendor vendor, int count, Random random) {
+        List<VendorDocument> documents = new ArrayList<>(count);
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < count; i++) {
+            VendorDocument document = new VendorDocument();
+            document.setId(vendor.getId() * 1_000 + i);
+            document.setVendor(vendor);
+            document.setType(DOCUMENT_TYPES[i % DOCUMENT_TYPES.length]);
+            document.setFileName("document-" + i + ".pdf");
+            document.setMimeType("application/pdf");
+            document.setSizeBytes(50_000L + random.nextInt(2_000_000));
+            document.setSha256(String.format("%064x", random.nextLong() & Long.MAX_VALUE));
+            document.setStorageKey("sha256/" + document.getSha256());
+            document.setExpiryDate(today.plusDays(random.nextInt(720) - 180));
+            document.setUploadedBy("benchmark");
+            document.prePersist();
+            documents.add(document);
+        }
+        return documents;
+    }
+
+    /**
+     * The latest document of each type with a fixed outcome: the first {@code missing} types have none, the next
+     * {@code expired} types an expired one and the remaining types a current one.
+     */
+    public static List<VendorDocument> latestDocuments(Vendor vendor, int missing, int expired) {
+        List<VendorDocument> documents = documents(vendor, DOCUMENT_TYPES.length, random());
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < documents.size(); i++) {
+            documents.get(i).setExpiryDate(i < missing + expired ? today.minusDays(30) : today.plusDays(365));
+        }
+        return documents.subList(missing, documents.size());
+    }
+
+    public static List<AuditFlag> flags(Vendor vendor, int count) {
+        List<AuditFlag> flags = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            AuditFlag flag = new AuditFlag();
+            flag.setId(vendor.getId() * 1_000 + i);
+            flag.setVendor(vendor);
+            flag.setDescription("Expired documents detected: " + DOCUMENT_TYPES[i % DOCUMENT_TYPES.length]);
+            flag.setResolved(false);
+            flags.add(flag);
+        }
+        return flags;
+    }
+
+    /**
+     * One row per document type holding the latest document, as VendorComplianceStateService maintains them.
+     */
+    public static List<VendorComplianceState> complianceState(
+            Vendor vendor,
+            List<VendorDocument> documents,
+            List<AuditFlag> flags
+    ) {
+        int unresolvedFlags = (int) flags.stream().filter(flag -> !flag.getResolved()).count();
+        Map<DocumentType, VendorDocument> latestByType = new EnumMap<>(DocumentType.class);
+        for (VendorDocument document : documents) {
+            latestByType.put(document.getType(), document);
+        }
+
+        List<VendorComplianceState> states = new ArrayList<>(DOCUMENT_TYPES.length);
+        for (DocumentType type : DOCUMENT_TYPES) {
+            VendorDocument latest = latestByType.get(type);
+            VendorComplianceState state = new VendorComplianceState();
+            state.setVendorId(vendor.getId());
+            state.setDocumentType(type);
+            if (latest != null) {
+                state.setLatestDocumentId(latest.getId());
+                state.setLatestUploadedAt(latest.getUploadedAt());
+                state.setExpiryDate(latest.getExpiryDate());
+            }
+            state.setUnresolvedFlags(unresolvedFlags);
+            states.add(state);
+        }
+        return states;
+    }
+
+    public static List<AuditLog> auditLogs(long vendorId, int count) {
+        List<AuditLog> logs = new ArrayList<>(count);
+        LocalDateTime start = LocalDateTime.now().minusDays(1);
+        for (int i = 0; i < count; i++) {
+            AuditLog log = new AuditLog();
+            log.setId((long) i + 1);
+            log.setAction(AuditAction.RISK_SCORE_CALCULATED);
+            log.setActorUsername("SYSTEM");
+            log.setVendorId(vendorId);
+            log.setDetails("Risk calculated: riskScore=" + (i % 100) + ", missingDocuments=1, expiredDocuments=0");
+            log.setCreatedAt(start.plusSeconds(i));
+            logs.add(log);
+        }
+        return logs;
+    }
+}
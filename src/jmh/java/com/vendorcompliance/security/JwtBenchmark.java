@@ -0,0 +1,129 @@
+package com.vendorcompliance.security;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.vendorcompliance.repository.UserAuthStateView;
+import com.vendorcompliance.repository.UserRepository;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+
+/**
+ * Per-request authentication cost: token verification with and without the verified-token cache, and the
+ * whole {@link JwtAuthenticationFilter} pass in claims-based mode with the user state cache warm.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark";
+    private static final String USERNAME = "manager";
+    private static final int UNCACHED_TOKENS = 4096;
+
+    private JwtUtil cachingJwtUtil;
+    private JwtUtil uncachedJwtUtil;
+    private JwtAuthenticationFilter filter;
+    private String token;
+    private String[] uncachedTokens;
+    private int nextUncachedToken;
+
+    @Setup
+    public void setUp() {
+        cachingJwtUtil = jwtUtil(10_000);
+        // A zero-sized cache evicts right away, and cycling through distinct tokens keeps stray hits out
+        uncachedJwtUtil = jwtUtil(0);
+        token = cachingJwtUtil.generateToken(user(USERNAME));
+        uncachedTokens = new String[UNCACHED_TOKENS];
+        for (int i = 0; i < UNCACHED_TOKENS; i++) {
+            uncachedTokens[i] = uncachedJwtUtil.generateToken(user(USERNAME + i));
+        }
+
+        UserAuthStateView state = new UserAuthStateView(true, LocalDateTime.now().minusDays(1));
+        UserRepository userRepository = (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(), new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> {
+                    if ("findAuthStateByUsername".equals(method.getName())) {
+                        return Optional.of(state);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        UserAuthStateCache userAuthStateCache = new UserAuthStateCache(userRepository, new SimpleMeterRegistry());
+        DirectFieldAccessor cacheFields = new DirectFieldAccessor(userAuthStateCache);
+        cacheFields.setPropertyValue("ttl", Duration.ofSeconds(30));
+        cacheFields.setPropertyValue("maxSize", 10_000L);
+        userAuthStateCache.init();
+
+        filter = new JwtAuthenticationFilter(cachingJwtUtil, null, userAuthStateCache, new SimpleMeterRegistry());
+        new DirectFieldAccessor(filter).setPropertyValue("statelessAuthEnabled", true);
+    }
+
+    @Benchmark
+    public Claims parseClaimsCached() {
+        return cachingJwtUtil.parseClaims(token);
+    }
+
+    @Benchmark
+    public Claims parseClaimsUncached() {
+        nextUncachedToken = (nextUncachedToken + 1) % UNCACHED_TOKENS;
+        return uncachedJwtUtil.parseClaims(uncachedTokens[nextUncachedToken]);
+    }
+
+    @Benchmark
+    public Authentication filterAuthenticatedRequest() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/vendors");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        try {
+            filter.doFilterInternal(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private static UserDetails user(String username) {
+        return User.withUsername(username)
+                .password("unused")
+                .authorities("ROLE_VENDOR_MANAGER", "ROLE_AUDITOR")
+                .build();
+    }
+
+    private static JwtUtil jwtUtil(long cacheMaxSize) {
+        JwtUtil jwtUtil = new JwtUtil(new SimpleMeterRegistry());
+        DirectFieldAccessor fields = new DirectFieldAccessor(jwtUtil);
+        fields.setPropertyValue("secret", SECRET);
+        fields.setPropertyValue("expirationMs", TimeUnit.HOURS.toMillis(1));
+        fields.setPropertyValue("cacheMaxSize", cacheMaxSize);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+}
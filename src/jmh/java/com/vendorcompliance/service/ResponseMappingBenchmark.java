@@ -0,0 +1,77 @@
+package com.vendorcompliance.service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import com.vendorcompliance.benchmark.SyntheticData;
+import com.vendorcompliance.dto.VendorResponse;
+import com.vendorcompliance.entity.AuditLog;
+import com.vendorcompliance.entity.Vendor;
+import com.vendorcompliance.entity.VendorDocument;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Entity to DTO mapping as done per row by listings and NDJSON exports; {@code rows} is the page size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseMappingBenchmark {
+
+    @Param({"50", "500"})
+    public int rows;
+
+    private VendorService vendorService;
+    private VendorDocumentService vendorDocumentService;
+    private AuditService auditService;
+    private Vendor vendor;
+    private List<VendorDocument> documents;
+    private List<AuditLog> auditLogs;
+
+    @Setup
+    public void setUp() {
+        vendorService = new VendorService(null, null, null, new ConcurrentMapCacheManager(), null, null);
+        vendorDocumentService = new VendorDocumentService(null, null, null, null, null, null, new SimpleMeterRegistry());
+        auditService = new AuditService(null, null, null, null);
+        vendor = SyntheticData.vendor(1L);
+        documents = SyntheticData.documents(vendor, rows, SyntheticData.random());
+        auditLogs = SyntheticData.auditLogs(vendor.getId(), rows);
+    }
+
+    @Benchmark
+    public VendorResponse vendorToResponse() {
+        return vendorService.toResponse(vendor);
+    }
+
+    @Benchmark
+    public void documentsToResponse(Blackhole blackhole) {
+        for (VendorDocument document : documents) {
+            blackhole.consume(vendorDocumentService.toResponse(document));
+        }
+    }
+
+    @Benchmark
+    public void auditLogsToResponse(Blackhole blackhole) {
+        for (AuditLog log : auditLogs) {
+            blackhole.consume(auditService.toResponse(log));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.vendorcompliance.service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import com.vendorcompliance.benchmark.SyntheticData;
+import com.vendorcompliance.dto.RiskScoreResponse;
+import com.vendorcompliance.entity.AuditAction;
+import com.vendorcompliance.entity.DocumentType;
+import com.vendorcompliance.entity.Vendor;
+import com.vendorcompliance.entity.VendorComplianceState;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Risk evaluation of one vendor with the database calls stubbed out: compliance state lookup, scoring and
+ * the audit entry built for a changed score. Called on the plain service, so no cache or transaction proxy.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RiskScoringBenchmark {
+
+    private static final long VENDOR_ID = 1L;
+    private static final String ACTOR = "benchmark";
+
+    @Param({"ALL_MISSING", "MIXED", "ALL_CURRENT"})
+    public DocumentCoverage coverage;
+
+    @Param({"0", "3"})
+    public int flags;
+
+    private RiskService riskService;
+
+    @Setup
+    public void setUp() {
+        Vendor vendor = SyntheticData.vendor(VENDOR_ID);
+        List<VendorComplianceState> states = SyntheticData.complianceState(vendor,
+                SyntheticData.latestDocuments(vendor, coverage.missing, coverage.expired),
+                SyntheticData.flags(vendor, flags));
+        CacheManager cacheManager = new ConcurrentMapCacheManager();
+
+        VendorComplianceStateService stateService =
+                new VendorComplianceStateService(null, null, null, null, cacheManager, null) {
+                    @Override
+                    public List<VendorComplianceState> findForVendor(Long vendorId) {
+                        return states;
+                    }
+                };
+        VendorService vendorService = new VendorService(null, null, null, cacheManager, null, null) {
+            @Override
+            public boolean updateRiskScore(Long vendorId, Integer riskScore, String riskBreakdown) {
+                return true;
+            }
+        };
+        AuditService auditService = new AuditService(null, null, null, null) {
+            @Override
+            public void log(AuditAction action, String actorUsername, Long vendorId, String details) {
+            }
+        };
+        riskService = new RiskService(vendorService, stateService, auditService, new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public RiskScoreResponse calculateRiskScore() {
+        return riskService.recalculateRiskForVendor(VENDOR_ID, ACTOR);
+    }
+
+    /**
+     * What scoring sees per document type. The state holds only the latest document of each type, so the mix of
+     * missing, expired and current types matters rather than how many documents were uploaded.
+     */
+    public enum DocumentCoverage {
+        ALL_MISSING(DocumentType.values().length, 0),
+        MIXED(1, 1),
+        ALL_CURRENT(0, 0);
+
+        private final int missing;
+        private final int expired;
+
+        DocumentCoverage(int missing, int expired) {
+            this.missing = missing;
+            this.expired = expired;
+        }
+    }
+}
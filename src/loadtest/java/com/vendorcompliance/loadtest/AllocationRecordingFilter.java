@@ -0,0 +1,72 @@
+package com.vendorcompliance.loadtest;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Server-side bytes allocated per request, grouped by the endpoint name the workload driver sends in
+ * {@link #ENDPOINT_HEADER}. Measures the request thread only; work handed to the audit writer or the risk
+ * recompute queue is not attributed.
+ */
+final class AllocationRecordingFilter implements Filter {
+
+    static final String ENDPOINT_HEADER = "X-Load-Test-Endpoint";
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final Map<String, LongAdder[]> allocations = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        String endpoint = ((HttpServletRequest) request).getHeader(ENDPOINT_HEADER);
+        if (!recording || endpoint == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        long before = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            LongAdder[] totals = allocations.computeIfAbsent(endpoint,
+                    key -> new LongAdder[]{new LongAdder(), new LongAdder()});
+            totals[0].add(THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - before);
+            totals[1].increment();
+        }
+    }
+
+    void setRecording(boolean recording) {
+        this.recording = recording;
+    }
+
+    long bytesPerRequest(String endpoint) {
+        LongAdder[] totals = allocations.get(endpoint);
+        if (totals == null || totals[1].sum() == 0) {
+            return 0;
+        }
+        return totals[0].sum() / totals[1].sum();
+    }
+
+    /**
+     * Bytes allocated by every live thread so far; the difference over a run gives the process allocation rate.
+     */
+    static long processAllocatedBytes() {
+        long total = 0;
+        for (long allocated : THREAD_MX_BEAN.getThreadAllocatedBytes(THREAD_MX_BEAN.getAllThreadIds())) {
+            total += Math.max(0, allocated);
+        }
+        return total;
+    }
+}
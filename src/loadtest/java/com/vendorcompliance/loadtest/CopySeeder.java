@@ -0,0 +1,208 @@
+package com.vendorcompliance.loadtest;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bulk-loads synthetic vendors, documents and audit entries with PostgreSQL {@code COPY ... FROM STDIN},
+ * streaming generated rows in text format instead of going through JPA or batched INSERTs. Afterwards it
+ * derives {@code vendor_compliance_state} the same way the V4 migration does and moves the id sequences past
+ * the seeded ids.
+ */
+final class CopySeeder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CopySeeder.class);
+
+    private static final int BUFFER_FLUSH_BYTES = 1 << 20;
+    private static final String[] DOCUMENT_TYPES =
+            {"BUSINESS_LICENSE", "TAX_CERTIFICATE", "INSURANCE_CERTIFICATE", "COMPLIANCE_CERTIFICATE"};
+    private static final String[] VENDOR_STATUSES = {"APPROVED", "APPROVED", "APPROVED", "PENDING", "REJECTED"};
+    private static final String[] AUDIT_ACTIONS =
+            {"RISK_SCORE_CALCULATED", "RISK_SCORE_CALCULATED", "DOCUMENT_UPLOADED", "LOGIN", "VENDOR_APPROVED"};
+    private static final DateTimeFormatter MONTH_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String COMPLIANCE_STATE_SQL = "INSERT INTO vendor_compliance_state"
+            + " (vendor_id, document_type, latest_document_id, latest_uploaded_at, expiry_date, unresolved_flags)"
+            + " SELECT v.id, t.document_type, d.id, d.uploaded_at, d.expiry_date, 0"
+            + " FROM vendors v CROSS JOIN (SELECT unnest(ARRAY['BUSINESS_LICENSE', 'TAX_CERTIFICATE',"
+            + " 'INSURANCE_CERTIFICATE', 'COMPLIANCE_CERTIFICATE']) AS document_type) t"
+            + " LEFT JOIN (SELECT id, vendor_id, type, uploaded_at, expiry_date,"
+            + " ROW_NUMBER() OVER (PARTITION BY vendor_id, type ORDER BY uploaded_at DESC, id DESC) AS rn"
+            + " FROM vendor_documents) d ON d.vendor_id = v.id AND d.type = t.document_type AND d.rn = 1";
+
+    private final DataSource dataSource;
+    private final LoadTestSettings settings;
+    private final Random random;
+    private final LocalDateTime now = LocalDateTime.now().withNano(0);
+
+    CopySeeder(DataSource dataSource, LoadTestSettings settings) {
+        this.dataSource = dataSource;
+        this.settings = settings;
+        this.random = new Random(settings.seed);
+    }
+
+    /**
+     * Seeds an empty database; a data directory left by an earlier run is reused as is.
+     */
+    void seedIfEmpty() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            try (var rs = statement.executeQuery("SELECT EXISTS (SELECT 1 FROM vendors)")) {
+                rs.next();
+                if (rs.getBoolean(1)) {
+                    LOGGER.info("Reusing seeded data in {}", settings.dataDir());
+                    return;
+                }
+            }
+
+            long startedAt = System.currentTimeMillis();
+            CopyIn vendors = copy(connection, "COPY vendors (id, legal_name, trading_name, registration_number, email,"
+                    + " phone, address, status, risk_score, last_risk_calculated_at, onboarding_notes, created_by,"
+                    + " updated_by, created_at, updated_at) FROM STDIN");
+            seedVendors(vendors);
+            LOGGER.info("Copied {} vendors", settings.vendors);
+
+            CopyIn documents = copy(connection, "COPY vendor_documents (id, vendor_id, type, file_name, mime_type,"
+                    + " sha256, size_bytes, storage_key, expiry_date, uploaded_by, uploaded_at) FROM STDIN");
+            seedDocuments(documents);
+            LOGGER.info("Copied {} documents", settings.documents);
+
+            createAuditPartitions(statement);
+            CopyIn auditLogs = copy(connection,
+                    "COPY audit_logs (id, action, actor_username, vendor_id, details, created_at) FROM STDIN");
+            seedAuditLogs(auditLogs);
+            LOGGER.info("Copied {} audit entries", settings.auditRows);
+
+            statement.execute(COMPLIANCE_STATE_SQL);
+            statement.execute("SELECT setval('vendors_seq', " + (settings.vendors + 50L) + ", false)");
+            statement.execute("SELECT setval('vendor_documents_seq', " + (settings.documents + 50L) + ", false)");
+            statement.execute("SELECT setval('audit_logs_seq', " + (settings.auditRows + 50L) + ", false)");
+            statement.execute("VACUUM ANALYZE");
+            LOGGER.info("Seeding finished in {} s", (System.currentTimeMillis() - startedAt) / 1000);
+        }
+    }
+
+    private void seedVendors(CopyIn copy) throws SQLException {
+        Rows rows = new Rows(copy);
+        for (int id = 1; id <= settings.vendors; id++) {
+            LocalDateTime createdAt = now.minusMinutes(random.nextInt(60 * 24 * 365 * 3));
+            rows.add(id).add("Load Test Vendor " + id + " Holdings Ltd").add("Load Test Vendor " + id)
+                    .add("REG-" + (10_000_000 + id)).add("vendor" + id + "@loadtest.local")
+                    .add("+1-555-" + (1000 + id % 9000)).add(id + " Market Street, Springfield")
+                    .add(VENDOR_STATUSES[random.nextInt(VENDOR_STATUSES.length)]).add(random.nextInt(101))
+                    .add(createdAt).add(null).add("loadtest").add("loadtest").add(createdAt).add(createdAt)
+                    .end();
+        }
+        rows.finish();
+    }
+
+    private void seedDocuments(CopyIn copy) throws SQLException {
+        Rows rows = new Rows(copy);
+        LocalDate today = now.toLocalDate();
+        for (long id = 1; id <= settings.documents; id++) {
+            long vendorId = 1 + (id - 1) % settings.vendors;
+            String type = DOCUMENT_TYPES[random.nextInt(DOCUMENT_TYPES.length)];
+            String sha256 = String.format("%016x%016x%016x%016x", random.nextLong(), random.nextLong(), id, vendorId);
+            rows.add(id).add(vendorId).add(type).add(type.toLowerCase() + "-" + id + ".pdf").add("application/pdf")
+                    .add(sha256).add(50_000 + random.nextInt(2_000_000)).add("sha256/" + sha256)
+                    .add(today.plusDays(random.nextInt(900) - 300)).add("loadtest")
+                    .add(now.minusMinutes(random.nextInt(60 * 24 * 365 * 2)))
+                    .end();
+        }
+        rows.finish();
+    }
+
+    private void seedAuditLogs(CopyIn copy) throws SQLException {
+        Rows rows = new Rows(copy);
+        long spanSeconds = now.toLocalDate().withDayOfMonth(1).minusMonths(settings.auditMonths - 1L)
+                .atStartOfDay().until(now, ChronoUnit.SECONDS);
+        for (long id = 1; id <= settings.auditRows; id++) {
+            // Ids follow time, as they do with the sequence
+            LocalDateTime createdAt = now.minusSeconds(spanSeconds - spanSeconds * id / settings.auditRows);
+            String action = AUDIT_ACTIONS[random.nextInt(AUDIT_ACTIONS.length)];
+            boolean hasVendor = !"LOGIN".equals(action);
+            rows.add(id).add(action).add(hasVendor ? "manager" : "user" + random.nextInt(1000))
+                    .add(hasVendor ? (Object) (1L + random.nextInt(settings.vendors)) : null)
+                    .add("RISK_SCORE_CALCULATED".equals(action)
+                            ? "Risk calculated: riskScore=" + random.nextInt(101) + ", missingDocuments="
+                                    + random.nextInt(4) + ", expiredDocuments=" + random.nextInt(4)
+                            : "Seeded " + action.toLowerCase() + " event")
+                    .add(createdAt)
+                    .end();
+        }
+        rows.finish();
+    }
+
+    /**
+     * Monthly partitions for the seeded span, so the rows do not pile up in audit_logs_default.
+     */
+    private void createAuditPartitions(Statement statement) throws SQLException {
+        YearMonth month = YearMonth.from(now).minusMonths(settings.auditMonths - 1L);
+        for (; !month.isAfter(YearMonth.from(now)); month = month.plusMonths(1)) {
+            statement.execute("CREATE TABLE IF NOT EXISTS audit_logs_p" + month.format(MONTH_SUFFIX)
+                    + " PARTITION OF audit_logs FOR VALUES FROM ('" + month.atDay(1) + "') TO ('"
+                    + month.plusMonths(1).atDay(1) + "')");
+        }
+    }
+
+    private static CopyIn copy(Connection connection, String sql) throws SQLException {
+        return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+    }
+
+    /**
+     * Encodes rows in COPY text format (tab separated, {@code \N} for null) and streams them in 1 MB chunks.
+     * Generated values never contain tabs, newlines or backslashes, so no escaping is needed.
+     */
+    private static final class Rows {
+        private final CopyIn copy;
+        private final StringBuilder buffer = new StringBuilder(BUFFER_FLUSH_BYTES + 4096);
+        private boolean rowStarted;
+
+        private Rows(CopyIn copy) {
+            this.copy = copy;
+        }
+
+        private Rows add(Object value) {
+            if (rowStarted) {
+                buffer.append('\t');
+            }
+            // LocalDate and LocalDateTime print as ISO 8601, which PostgreSQL parses for date and timestamp
+            buffer.append(value == null ? "\\N" : value.toString());
+            rowStarted = true;
+            return this;
+        }
+
+        private void end() throws SQLException {
+            buffer.append('\n');
+            rowStarted = false;
+            if (buffer.length() >= BUFFER_FLUSH_BYTES) {
+                flush();
+            }
+        }
+
+        private void finish() throws SQLException {
+            flush();
+            copy.endCopy();
+        }
+
+        private void flush() throws SQLException {
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copy.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+    }
+}
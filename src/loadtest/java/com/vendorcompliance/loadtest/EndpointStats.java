@@ -0,0 +1,53 @@
+package com.vendorcompliance.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Client-side latency samples and error count of one workload endpoint.
+ */
+final class EndpointStats {
+
+    private final String name;
+    private long[] latenciesNanos = new long[1 << 14];
+    private int count;
+    private long errors;
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    synchronized void record(long latencyNanos, boolean success) {
+        if (count == latenciesNanos.length) {
+            latenciesNanos = Arrays.copyOf(latenciesNanos, count * 2);
+        }
+        latenciesNanos[count++] = latencyNanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    String getName() {
+        return name;
+    }
+
+    synchronized int getCount() {
+        return count;
+    }
+
+    synchronized long getErrors() {
+        return errors;
+    }
+
+    /**
+     * Nearest-rank percentile in milliseconds, {@code percentile} in (0, 100].
+     */
+    synchronized double percentileMillis(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(latenciesNanos, count);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * count);
+        return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,201 @@
+package com.vendorcompliance.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.Ordered;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.vendorcompliance.VendorComplianceRiskManagementSystemApplication;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+/**
+ * Self-contained end-to-end load test: starts an embedded PostgreSQL server (real binaries, no containers),
+ * boots the application against it, seeds production-scale data with {@link CopySeeder} on the first run,
+ * then runs a warmup and a measured phase of {@link WorkloadDriver} and writes a per-endpoint report.
+ * With {@code -Dloadtest.thread-modes=platform,virtual} the application is started once per request thread
+ * model against the same data, so both runs land in one report.
+ *
+ * <pre>mvn -Pload-test -DskipTests compile exec:java -Dloadtest.vendors=40000 -Dloadtest.documents=500000</pre>
+ */
+public final class LoadTestMain {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoadTestMain.class);
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = new LoadTestSettings();
+        Files.createDirectories(settings.dataDir());
+        Files.createDirectories(settings.documentRoot());
+
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder()
+                .setDataDirectory(settings.dataDir().toFile())
+                .setCleanDataDirectory(false)
+                .setServerConfig("max_connections", "200")
+                .setServerConfig("shared_buffers", "512MB")
+                .setServerConfig("max_wal_size", "4GB")
+                .start()) {
+            applyApplicationProperties(settings, postgres.getPort());
+            List<Map<String, Object>> runs = new ArrayList<>();
+            for (String threadMode : settings.threadModes) {
+                runs.add(measure(settings, threadMode, args));
+            }
+            writeReport(settings, runs);
+        }
+    }
+
+    private static Map<String, Object> measure(LoadTestSettings settings, String threadMode, String[] args)
+            throws Exception {
+        boolean virtual = "virtual".equals(threadMode);
+        System.setProperty("spring.threads.virtual.enabled", String.valueOf(virtual));
+        System.setProperty("app.datasource.connection-limiter.enabled", String.valueOf(virtual));
+
+        AllocationRecordingFilter allocationFilter = new AllocationRecordingFilter();
+        ConfigurableApplicationContext app = new SpringApplicationBuilder(
+                VendorComplianceRiskManagementSystemApplication.class)
+                .initializers(context -> ((GenericApplicationContext) context).registerBean(
+                        "loadTestAllocationFilter", FilterRegistrationBean.class,
+                        () -> allocationFilterRegistration(allocationFilter)))
+                .run(args);
+        try {
+            new CopySeeder(app.getBean(DataSource.class), settings).seedIfEmpty();
+
+            int port = ((ServletWebServerApplicationContext) app).getWebServer().getPort();
+            URI baseUri = URI.create("http://localhost:" + port);
+            String token = WorkloadDriver.login(HttpClient.newHttpClient(), baseUri);
+            WorkloadDriver driver = new WorkloadDriver(baseUri, token, settings);
+
+            LOGGER.info("Warming up {} threads for {} with {} workers", threadMode, settings.warmup,
+                    settings.concurrency);
+            driver.run(settings.warmup);
+
+            LOGGER.info("Measuring {} threads for {}", threadMode, settings.duration);
+            allocationFilter.setRecording(true);
+            long allocatedBefore = AllocationRecordingFilter.processAllocatedBytes();
+            long startedAt = System.nanoTime();
+            Map<String, EndpointStats> stats = driver.run(settings.duration);
+            double elapsedSeconds = (System.nanoTime() - startedAt) / 1e9;
+            long allocated = AllocationRecordingFilter.processAllocatedBytes() - allocatedBefore;
+            allocationFilter.setRecording(false);
+
+            return summarize(threadMode, stats, allocationFilter, elapsedSeconds, allocated);
+        } finally {
+            app.close();
+        }
+    }
+
+    /**
+     * Set as system properties so they take precedence over application.yml; values already given with -D win.
+     */
+    private static void applyApplicationProperties(LoadTestSettings settings, int databasePort) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("spring.datasource.url",
+                "jdbc:postgresql://localhost:" + databasePort + "/postgres?reWriteBatchedInserts=true");
+        properties.put("spring.datasource.username", "postgres");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.datasource.driver-class-name", "org.postgresql.Driver");
+        properties.put("server.port", 0);
+        properties.put("app.storage.local.root", settings.documentRoot().toAbsolutePath().toString());
+        properties.put("app.storage.migrate-legacy-content", false);
+        properties.put("app.bootstrap.admin-username", LoadTestSettings.ADMIN_USERNAME);
+        properties.put("app.bootstrap.admin-password", LoadTestSettings.ADMIN_PASSWORD);
+        // Keep nightly jobs out of the measurement
+        properties.put("app.risk.bulk.cron", "-");
+        properties.put("app.audit.retention.cron", "-");
+        properties.forEach((key, value) -> {
+            if (System.getProperty(key) == null) {
+                System.setProperty(key, String.valueOf(value));
+            }
+        });
+    }
+
+    private static FilterRegistrationBean<AllocationRecordingFilter> allocationFilterRegistration(
+            AllocationRecordingFilter filter
+    ) {
+        FilterRegistrationBean<AllocationRecordingFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+
+    private static Map<String, Object> summarize(
+            String threadMode,
+            Map<String, EndpointStats> stats,
+            AllocationRecordingFilter allocationFilter,
+            double elapsedSeconds,
+            long processAllocatedBytes
+    ) {
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        long totalRequests = 0;
+        StringBuilder table = new StringBuilder(String.format("%n%-22s %9s %7s %9s %9s %9s %12s %10s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "alloc B/req", "alloc MB/s"));
+        for (EndpointStats endpoint : stats.values()) {
+            totalRequests += endpoint.getCount();
+            double throughput = endpoint.getCount() / elapsedSeconds;
+            long bytesPerRequest = allocationFilter.bytesPerRequest(endpoint.getName());
+            double allocationMbPerSecond = bytesPerRequest * throughput / (1024 * 1024);
+
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("endpoint", endpoint.getName());
+            row.put("requests", endpoint.getCount());
+            row.put("errors", endpoint.getErrors());
+            row.put("throughputPerSecond", throughput);
+            row.put("p50Millis", endpoint.percentileMillis(50));
+            row.put("p99Millis", endpoint.percentileMillis(99));
+            row.put("maxMillis", endpoint.percentileMillis(100));
+            row.put("serverAllocatedBytesPerRequest", bytesPerRequest);
+            row.put("serverAllocationMbPerSecond", allocationMbPerSecond);
+            endpoints.add(row);
+
+            table.append(String.format("%-22s %9d %7d %9.1f %9.2f %9.2f %12d %10.1f%n", endpoint.getName(),
+                    endpoint.getCount(), endpoint.getErrors(), throughput, endpoint.percentileMillis(50),
+                    endpoint.percentileMillis(99), bytesPerRequest, allocationMbPerSecond));
+        }
+        double processAllocationMbPerSecond = processAllocatedBytes / elapsedSeconds / (1024 * 1024);
+        table.append(String.format("total throughput: %.1f req/s%n", totalRequests / elapsedSeconds));
+        table.append(String.format("process allocation rate (server and load generator): %.1f MB/s%n",
+                processAllocationMbPerSecond));
+        LOGGER.info("Load test results with {} threads{}", threadMode, table);
+
+        Map<String, Object> run = new LinkedHashMap<>();
+        run.put("threadMode", threadMode);
+        run.put("durationSeconds", elapsedSeconds);
+        run.put("throughputPerSecond", totalRequests / elapsedSeconds);
+        run.put("processAllocationMbPerSecond", processAllocationMbPerSecond);
+        run.put("endpoints", endpoints);
+        return run;
+    }
+
+    private static void writeReport(LoadTestSettings settings, List<Map<String, Object>> runs) throws Exception {
+        Map<String, Object> dataset = new LinkedHashMap<>();
+        dataset.put("vendors", settings.vendors);
+        dataset.put("documents", settings.documents);
+        dataset.put("auditRows", settings.auditRows);
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("dataset", dataset);
+        report.put("concurrency", settings.concurrency);
+        report.put("mix", settings.mix);
+        report.put("runs", runs);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(settings.reportFile().toFile(), report);
+        LOGGER.info("Report written to {}", settings.reportFile().toAbsolutePath());
+    }
+}
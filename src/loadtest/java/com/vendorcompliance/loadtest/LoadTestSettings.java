@@ -0,0 +1,70 @@
+package com.vendorcompliance.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Load test configuration read from {@code loadtest.*} system properties; the defaults are production scale.
+ */
+final class LoadTestSettings {
+
+    static final String ADMIN_USERNAME = "admin";
+    static final String ADMIN_PASSWORD = "Admin@12345";
+
+    private static final String DEFAULT_MIX = "login:2,vendor-list:15,vendor-list-approved:5,vendor-get:25,"
+            + "risk-score:20,document-list:15,document-upload:3,audit-by-vendor:10,audit-recent:5";
+
+    final int vendors = Integer.getInteger("loadtest.vendors", 400_000);
+    final long documents = Long.getLong("loadtest.documents", 5_000_000L);
+    final long auditRows = Long.getLong("loadtest.audit-rows", 50_000_000L);
+    final int auditMonths = Integer.getInteger("loadtest.audit-months", 12);
+    final int concurrency = Integer.getInteger("loadtest.concurrency", 32);
+    final Duration warmup = Duration.parse(System.getProperty("loadtest.warmup", "PT30S"));
+    final Duration duration = Duration.parse(System.getProperty("loadtest.duration", "PT2M"));
+    final long seed = Long.getLong("loadtest.seed", 42L);
+    final Path workDir = Path.of(System.getProperty("loadtest.work-dir", "target/loadtest"));
+    final Map<String, Integer> mix = parseMix(System.getProperty("loadtest.mix", DEFAULT_MIX));
+    /** {@code platform}, {@code virtual} or both to compare; each mode gets its own application start. */
+    final List<String> threadModes = parseThreadModes(System.getProperty("loadtest.thread-modes", "platform"));
+
+    Path dataDir() {
+        return workDir.resolve("pgdata");
+    }
+
+    Path documentRoot() {
+        return workDir.resolve("documents");
+    }
+
+    Path reportFile() {
+        return workDir.resolve("report.json");
+    }
+
+    private static List<String> parseThreadModes(String value) {
+        List<String> modes = Arrays.stream(value.split(",")).map(String::trim).toList();
+        for (String mode : modes) {
+            if (!"platform".equals(mode) && !"virtual".equals(mode)) {
+                throw new IllegalArgumentException("loadtest.thread-modes accepts platform and virtual, got " + mode);
+            }
+        }
+        if (modes.contains("virtual") && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("Virtual threads need Java 21, running on " + Runtime.version());
+        }
+        return modes;
+    }
+
+    private static Map<String, Integer> parseMix(String value) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("loadtest.mix entries must look like name:weight, got " + entry);
+            }
+            mix.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+        }
+        return mix;
+    }
+}
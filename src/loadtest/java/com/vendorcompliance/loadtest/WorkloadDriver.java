@@ -0,0 +1,184 @@
+package com.vendorcompliance.loadtest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Drives the REST API with {@code concurrency} closed-loop workers, each picking the next endpoint from the
+ * weighted mix and recording its latency. Every request carries its endpoint name in
+ * {@link AllocationRecordingFilter#ENDPOINT_HEADER} so server-side allocations can be grouped the same way.
+ */
+final class WorkloadDriver {
+
+    private static final String[] DOCUMENT_TYPES =
+            {"BUSINESS_LICENSE", "TAX_CERTIFICATE", "INSURANCE_CERTIFICATE", "COMPLIANCE_CERTIFICATE"};
+    private static final String MULTIPART_BOUNDARY = "loadtest-boundary-7d1f";
+    private static final int UPLOAD_SIZE_BYTES = 20 * 1024;
+
+    private final URI baseUri;
+    private final String bearerToken;
+    private final LoadTestSettings settings;
+    private final HttpClient client;
+    private final Map<String, Function<Random, HttpRequest.Builder>> endpoints = new LinkedHashMap<>();
+    private final String[] weightedNames;
+    private final int[] cumulativeWeights;
+
+    WorkloadDriver(URI baseUri, String bearerToken, LoadTestSettings settings) {
+        this.baseUri = baseUri;
+        this.bearerToken = bearerToken;
+        this.settings = settings;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        defineEndpoints();
+
+        List<String> names = new ArrayList<>();
+        List<Integer> cumulative = new ArrayList<>();
+        int total = 0;
+        for (Map.Entry<String, Integer> entry : settings.mix.entrySet()) {
+            if (!endpoints.containsKey(entry.getKey())) {
+                throw new IllegalArgumentException("Unknown endpoint in loadtest.mix: " + entry.getKey()
+                        + ", expected one of " + endpoints.keySet());
+            }
+            total += entry.getValue();
+            names.add(entry.getKey());
+            cumulative.add(total);
+        }
+        this.weightedNames = names.toArray(String[]::new);
+        this.cumulativeWeights = cumulative.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    static String login(HttpClient client, URI baseUri) throws IOException, InterruptedException {
+        HttpResponse<String> response =
+                client.send(loginRequest(baseUri).build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed with HTTP " + response.statusCode() + ": "
+                    + response.body());
+        }
+        return new ObjectMapper().readTree(response.body()).get("accessToken").asText();
+    }
+
+    Map<String, EndpointStats> run(Duration duration) throws InterruptedException {
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+        for (String name : weightedNames) {
+            stats.put(name, new EndpointStats(name));
+        }
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        ExecutorService workers = Executors.newFixedThreadPool(settings.concurrency);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int worker = 0; worker < settings.concurrency; worker++) {
+            Random random = new Random(settings.seed + worker);
+            futures.add(workers.submit(() -> {
+                while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                    String name = pick(random);
+                    HttpRequest request = endpoints.get(name).apply(random)
+                            .header(AllocationRecordingFilter.ENDPOINT_HEADER, name)
+                            .timeout(Duration.ofSeconds(30))
+                            .build();
+                    long startedAt = System.nanoTime();
+                    boolean success;
+                    try {
+                        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        success = status >= 200 && status < 300;
+                    } catch (IOException ex) {
+                        success = false;
+                    }
+                    stats.get(name).record(System.nanoTime() - startedAt, success);
+                }
+                return null;
+            }));
+        }
+        workers.shutdown();
+        if (!workers.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+        return stats;
+    }
+
+    private void defineEndpoints() {
+        endpoints.put("login", random -> loginRequest(baseUri));
+        endpoints.put("vendor-list", random -> get("/api/vendors?size=50"));
+        endpoints.put("vendor-list-approved", random -> get("/api/vendors?status=APPROVED&size=50"));
+        endpoints.put("vendor-get", random -> get("/api/vendors/" + vendorId(random)));
+        endpoints.put("risk-score", random -> get("/api/vendors/" + vendorId(random) + "/risk-score"));
+        endpoints.put("document-list", random -> get("/api/vendors/" + vendorId(random) + "/documents"));
+        endpoints.put("document-upload", this::upload);
+        endpoints.put("audit-by-vendor", random -> get("/api/audits?size=50&vendorId=" + vendorId(random)));
+        endpoints.put("audit-recent", random -> get("/api/audits?size=50"));
+    }
+
+    private String pick(Random random) {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return weightedNames[i];
+            }
+        }
+        return weightedNames[weightedNames.length - 1];
+    }
+
+    private long vendorId(Random random) {
+        return 1L + random.nextInt(settings.vendors);
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Authorization", "Bearer " + bearerToken)
+                .GET();
+    }
+
+    private HttpRequest.Builder upload(Random random) {
+        String type = DOCUMENT_TYPES[random.nextInt(DOCUMENT_TYPES.length)];
+        String expiryDate = LocalDate.now().plusDays(30 + random.nextInt(700)).toString();
+        byte[] content = new byte[UPLOAD_SIZE_BYTES];
+        random.nextBytes(content);
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream(UPLOAD_SIZE_BYTES + 512);
+        writeText(body, "--" + MULTIPART_BOUNDARY + "\r\nContent-Disposition: form-data; name=\"type\"\r\n\r\n"
+                + type + "\r\n");
+        writeText(body, "--" + MULTIPART_BOUNDARY + "\r\nContent-Disposition: form-data; name=\"expiryDate\"\r\n\r\n"
+                + expiryDate + "\r\n");
+        writeText(body, "--" + MULTIPART_BOUNDARY + "\r\nContent-Disposition: form-data; name=\"file\";"
+                + " filename=\"loadtest.pdf\"\r\nContent-Type: application/pdf\r\n\r\n");
+        body.writeBytes(content);
+        writeText(body, "\r\n--" + MULTIPART_BOUNDARY + "--\r\n");
+
+        return HttpRequest.newBuilder(baseUri.resolve("/api/vendors/" + vendorId(random) + "/documents"))
+                .header("Authorization", "Bearer " + bearerToken)
+                .header("Content-Type", "multipart/form-data; boundary=" + MULTIPART_BOUNDARY)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()));
+    }
+
+    private static HttpRequest.Builder loginRequest(URI baseUri) {
+        String body = "{\"username\":\"" + LoadTestSettings.ADMIN_USERNAME + "\",\"password\":\""
+                + LoadTestSettings.ADMIN_PASSWORD + "\"}";
+        return HttpRequest.newBuilder(baseUri.resolve("/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private static void writeText(ByteArrayOutputStream out, String text) {
+        out.writeBytes(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
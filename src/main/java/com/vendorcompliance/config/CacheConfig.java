@@ -0,0 +1,57 @@
+package com.vendorcompliance.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * Application caches. Puts and evictions issued inside a transaction are deferred until it commits, so a
+ * reader can never cache a vendor state that is rolled back or re-cache the old state before the change
+ * is visible. Caches record statistics; Actuator publishes them as {@code cache.gets{result=hit|miss}}.
+ * The caching advisor is ordered ahead of the transaction advisor, so a cache hit never opens a
+ * transaction or borrows a connection.
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    public static final String VENDORS_CACHE = "vendors";
+    public static final String RISK_SCORES_CACHE = "riskScores";
+
+    @Value("${app.cache.vendors.max-size:10000}")
+    private long vendorsMaxSize;
+
+    @Value("${app.cache.vendors.ttl:PT10M}")
+    private Duration vendorsTtl;
+
+    @Value("${app.cache.risk-scores.max-size:10000}")
+    private long riskScoresMaxSize;
+
+    @Value("${app.cache.risk-scores.ttl:PT1H}")
+    private Duration riskScoresTtl;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+        cacheManager.registerCustomCache(VENDORS_CACHE, Caffeine.newBuilder()
+                .maximumSize(vendorsMaxSize)
+                .expireAfterWrite(vendorsTtl)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(RISK_SCORES_CACHE, Caffeine.newBuilder()
+                .maximumSize(riskScoresMaxSize)
+                .expireAfterWrite(riskScoresTtl)
+                .recordStats()
+                .build());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
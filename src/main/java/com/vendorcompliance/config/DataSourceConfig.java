@@ -0,0 +1,67 @@
+package com.vendorcompliance.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Wraps every Hikari pool (the primary, and the replica when {@link ReadReplicaConfig} is active) in a
+ * {@link ConnectionLimitingDataSource} when {@code app.datasource.connection-limiter.enabled} is set, as the
+ * {@code virtual-threads} profile does.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.connection-limiter.enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionLimiterPostProcessor(Environment environment) {
+        // Unset means one permit per pooled connection, so waiting moves from Hikari to the semaphore
+        Integer permits = environment.getProperty("app.datasource.connection-limiter.permits", Integer.class);
+        Duration acquireTimeout = environment.getProperty("app.datasource.connection-limiter.acquire-timeout",
+                Duration.class, Duration.ofSeconds(30));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource pool) {
+                    return new ConnectionLimitingDataSource(beanName, pool,
+                            permits != null ? permits : pool.getMaximumPoolSize(), acquireTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder connectionLimiterMetrics(ObjectProvider<DataSource> dataSources) {
+        // Matched on the instance: the bean definitions still declare the HikariDataSource they wrap
+        return registry -> dataSources.orderedStream()
+                .filter(ConnectionLimitingDataSource.class::isInstance)
+                .map(ConnectionLimitingDataSource.class::cast)
+                .forEach(limiter -> bindLimiter(registry, limiter));
+    }
+
+    private static void bindLimiter(MeterRegistry registry, ConnectionLimitingDataSource limiter) {
+        Gauge.builder("compliance.datasource.limiter.waiting", limiter, ConnectionLimitingDataSource::getWaitingThreads)
+                .description("Threads waiting for a connection permit")
+                .tag("pool", limiter.getName())
+                .register(registry);
+        Gauge.builder("compliance.datasource.limiter.available", limiter,
+                        ConnectionLimitingDataSource::getAvailablePermits)
+                .description("Connection permits not currently held")
+                .tag("pool", limiter.getName())
+                .register(registry);
+    }
+}
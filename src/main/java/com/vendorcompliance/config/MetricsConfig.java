@@ -0,0 +1,23 @@
+package com.vendorcompliance.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Metrics that need wiring outside the instrumented classes. Service, job and security meters are
+ * registered where they are recorded, all under the {@code compliance.} prefix; per-repository timings come
+ * from Spring Data's {@code spring.data.repository.invocations} and cache hit and miss counts from Actuator.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementMetricsCustomizer(MeterRegistry meterRegistry) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR,
+                new SqlStatementMetrics(meterRegistry));
+    }
+}
@@ -0,0 +1,120 @@
+package com.vendorcompliance.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Replaces the single auto-configured pool with a primary and a replica pool when
+ * {@code app.datasource.replica.enabled} is set. The application-wide DataSource borrows a physical connection
+ * only when the first statement runs, by which time a {@code @Transactional(readOnly = true)} transaction has
+ * marked it read-only; such connections come from {@link ReplicaFallbackDataSource}, everything else from the
+ * primary. A read-only method joining a read-write transaction keeps using that transaction's connection.
+ * Methods whose results are cached use read-write transactions, so they never cache what a lagging replica returns.
+ * <p>
+ * Each pool is sized on its own ({@code spring.datasource.hikari.*} and {@code app.datasource.replica.hikari.*})
+ * and reports its own {@code hikaricp.*} metrics, tagged {@code pool=primary} or {@code pool=replica}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Value("${app.datasource.replica.url}")
+    private String replicaUrl;
+
+    @Value("${app.datasource.replica.username:}")
+    private String replicaUsername;
+
+    @Value("${app.datasource.replica.password:}")
+    private String replicaPassword;
+
+    @Value("${app.datasource.replica.max-lag:PT10S}")
+    private Duration maxLag;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = DataSourceBuilder.create(properties.getClassLoader())
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(replicaUrl)
+                .username(StringUtils.hasText(replicaUsername) ? replicaUsername : properties.determineUsername())
+                .password(StringUtils.hasText(replicaPassword) ? replicaPassword : properties.determinePassword())
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        // Start even while the replica is down; reads stay on the primary until a lag check succeeds
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaFallbackDataSource readOnlyDataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource
+    ) {
+        return new ReplicaFallbackDataSource(primaryDataSource, replicaDataSource, maxLag);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            ReplicaFallbackDataSource readOnlyDataSource
+    ) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(readOnlyDataSource);
+        return dataSource;
+    }
+
+    @Bean
+    public MeterBinder readReplicaMetrics(ReplicaFallbackDataSource readOnlyDataSource) {
+        return registry -> {
+            Gauge.builder("compliance.datasource.replica.lag", readOnlyDataSource,
+                            ReplicaFallbackDataSource::getLagSeconds)
+                    .description("Replication lag seen by the last check; NaN when it failed")
+                    .baseUnit("seconds")
+                    .register(registry);
+            Gauge.builder("compliance.datasource.replica.usable", readOnlyDataSource,
+                            dataSource -> dataSource.isReplicaUsable() ? 1 : 0)
+                    .description("1 while read-only transactions are routed to the replica")
+                    .register(registry);
+            FunctionCounter.builder("compliance.datasource.read.connections", readOnlyDataSource,
+                            ReplicaFallbackDataSource::getReplicaConnections)
+                    .description("Connections borrowed for read-only transactions")
+                    .tag("target", "replica")
+                    .register(registry);
+            FunctionCounter.builder("compliance.datasource.read.connections", readOnlyDataSource,
+                            ReplicaFallbackDataSource::getPrimaryConnections)
+                    .description("Connections borrowed for read-only transactions")
+                    .tag("target", "primary")
+                    .register(registry);
+        };
+    }
+}
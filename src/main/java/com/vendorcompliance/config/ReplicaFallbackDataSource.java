@@ -0,0 +1,152 @@
+package com.vendorcompliance.config;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Source of read-only connections when a replica is configured. Connections come from the replica pool while
+ * its replication lag, sampled every {@code app.datasource.replica.lag-check-interval}, stays within
+ * {@code max-lag}; otherwise, and whenever the replica cannot be reached, they come from the primary pool.
+ * Reads start on the primary until the first lag check succeeds.
+ */
+public class ReplicaFallbackDataSource extends AbstractDataSource {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicaFallbackDataSource.class);
+
+    // A replica that has replayed everything it received is current, however old the last replayed commit is, but
+    // only while its WAL receiver streams: a disconnected one receives nothing and would look current. Without
+    // pg_read_all_stats the receiver's status reads as null, so only its presence can be checked.
+    private static final String POSTGRES_LAG_SQL = "SELECT CASE WHEN NOT pg_is_in_recovery() THEN 0"
+            + " WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver"
+            + " WHERE COALESCE(status, 'streaming') = 'streaming') THEN NULL"
+            + " WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+            + " ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END";
+    private static final String MYSQL_LAG_SQL = "SHOW REPLICA STATUS";
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final double maxLagSeconds;
+    private final LongAdder replicaConnections = new LongAdder();
+    private final LongAdder primaryConnections = new LongAdder();
+
+    private volatile boolean replicaUsable;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaFallbackDataSource(DataSource primary, DataSource replica, Duration maxLag) {
+        this.primary = primary;
+        this.replica = replica;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (replicaUsable) {
+            try {
+                Connection connection = replica.getConnection();
+                replicaConnections.increment();
+                return connection;
+            } catch (SQLException ex) {
+                markUnusable("connection failed: " + ex.getMessage());
+            }
+        }
+        primaryConnections.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (replicaUsable) {
+            try {
+                Connection connection = replica.getConnection(username, password);
+                replicaConnections.increment();
+                return connection;
+            } catch (SQLException ex) {
+                markUnusable("connection failed: " + ex.getMessage());
+            }
+        }
+        primaryConnections.increment();
+        return primary.getConnection(username, password);
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval:PT5S}")
+    public void checkReplicaLag() {
+        Double lag;
+        try (Connection connection = replica.getConnection(); Statement statement = connection.createStatement()) {
+            lag = queryLagSeconds(connection, statement);
+        } catch (SQLException | RuntimeException ex) {
+            lagSeconds = Double.NaN;
+            markUnusable("lag check failed: " + ex.getMessage());
+            return;
+        }
+
+        lagSeconds = lag == null ? Double.NaN : lag;
+        if (lag == null) {
+            markUnusable("replication is not running");
+        } else if (lag > maxLagSeconds) {
+            markUnusable("lag of " + lag + " s exceeds " + maxLagSeconds + " s");
+        } else if (!replicaUsable) {
+            LOGGER.info("Routing read-only transactions to the replica (lag {} s)", lag);
+            replicaUsable = true;
+        }
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+
+    public long getReplicaConnections() {
+        return replicaConnections.sum();
+    }
+
+    public long getPrimaryConnections() {
+        return primaryConnections.sum();
+    }
+
+    /**
+     * Returns null when the server is a replica whose replication is stopped or, on PostgreSQL, whose WAL receiver
+     * is not streaming from the primary; 0 when it is not a replica at all.
+     */
+    private static Double queryLagSeconds(Connection connection, Statement statement) throws SQLException {
+        String product = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT);
+        if (product.contains("postgres")) {
+            try (ResultSet rs = statement.executeQuery(POSTGRES_LAG_SQL)) {
+                rs.next();
+                double lag = rs.getDouble(1);
+                return rs.wasNull() ? null : lag;
+            }
+        }
+        if (product.contains("mysql") || product.contains("mariadb")) {
+            try (ResultSet rs = statement.executeQuery(MYSQL_LAG_SQL)) {
+                if (!rs.next()) {
+                    return 0.0;
+                }
+                long lag = rs.getLong("Seconds_Behind_Source");
+                return rs.wasNull() ? null : (double) lag;
+            }
+        }
+        return 0.0;
+    }
+
+    private void markUnusable(String reason) {
+        if (replicaUsable) {
+            LOGGER.warn("Routing read-only transactions to the primary: replica {}", reason);
+            replicaUsable = false;
+        }
+    }
+}
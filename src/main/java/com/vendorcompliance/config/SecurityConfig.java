@@ -3,6 +3,8 @@ package com.vendorcompliance.config;
 import com.vendorcompliance.security.AuthEntryPointJwt;
 import com.vendorcompliance.security.CustomUserDetailsService;
 import com.vendorcompliance.security.JwtAuthenticationFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -27,6 +29,12 @@ public class SecurityConfig {
     private final AuthEntryPointJwt authEntryPointJwt;
     private final CustomUserDetailsService customUserDetailsService;
 
+    @Value("${server.port:8080}")
+    private int serverPort;
+
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     public SecurityConfig(
             JwtAuthenticationFilter jwtAuthenticationFilter,
             AuthEntryPointJwt authEntryPointJwt,
@@ -45,6 +53,7 @@ public class SecurityConfig {
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/auth/**", "/actuator/health", "/actuator/info").permitAll()
+                        .requestMatchers(this::isPrometheusScrape).permitAll()
                         .anyRequest().authenticated()
                 )
                 .authenticationProvider(authenticationProvider(customUserDetailsService))
@@ -53,6 +62,15 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * Prometheus scrapes without a user token, which is only allowed on the separate management port. When
+     * actuator shares the API port, the endpoint needs an authenticated user like any other request.
+     */
+    private boolean isPrometheusScrape(HttpServletRequest request) {
+        return managementPort > 0 && managementPort != serverPort && request.getLocalPort() == managementPort
+                && "/actuator/prometheus".equals(request.getRequestURI());
+    }
+
     @Bean
     public DaoAuthenticationProvider authenticationProvider(UserDetailsService userDetailsService) {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
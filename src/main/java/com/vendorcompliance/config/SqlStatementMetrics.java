@@ -0,0 +1,63 @@
+package com.vendorcompliance.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Counts the SQL statements Hibernate prepares, by kind, as {@code compliance.sql.statements{kind=...}}.
+ * An inspector sees the SQL but not its execution, so timing comes from the repository invocation timers;
+ * comparing the two rates shows repository calls that fan out into many statements. JdbcTemplate
+ * statements (job locks, bulk scoring, partition maintenance) bypass Hibernate and are not counted.
+ */
+public class SqlStatementMetrics implements StatementInspector {
+
+    private final Counter selects;
+    private final Counter inserts;
+    private final Counter updates;
+    private final Counter deletes;
+    private final Counter others;
+
+    public SqlStatementMetrics(MeterRegistry meterRegistry) {
+        this.selects = counter(meterRegistry, "select");
+        this.inserts = counter(meterRegistry, "insert");
+        this.updates = counter(meterRegistry, "update");
+        this.deletes = counter(meterRegistry, "delete");
+        this.others = counter(meterRegistry, "other");
+    }
+
+    @Override
+    public String inspect(String sql) {
+        counterFor(sql).increment();
+        return sql;
+    }
+
+    private Counter counterFor(String sql) {
+        String statement = sql.stripLeading();
+        if (startsWithKeyword(statement, "select") || startsWithKeyword(statement, "with")) {
+            return selects;
+        }
+        if (startsWithKeyword(statement, "insert")) {
+            return inserts;
+        }
+        if (startsWithKeyword(statement, "update")) {
+            return updates;
+        }
+        if (startsWithKeyword(statement, "delete")) {
+            return deletes;
+        }
+        return others;
+    }
+
+    private static boolean startsWithKeyword(String statement, String keyword) {
+        return statement.regionMatches(true, 0, keyword, 0, keyword.length());
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String kind) {
+        return Counter.builder("compliance.sql.statements")
+                .description("SQL statements prepared by Hibernate")
+                .tag("kind", kind)
+                .register(meterRegistry);
+    }
+}
@@ -1,33 +1,80 @@
 package com.vendorcompliance.controller;
 
 import com.vendorcompliance.dto.AuditLogResponse;
+import com.vendorcompliance.dto.CursorPageResponse;
 import com.vendorcompliance.entity.AuditAction;
+import com.vendorcompliance.repository.AuditLogFilter;
 import com.vendorcompliance.service.AuditService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
 @RestController
 @RequestMapping("/api/audits")
 public class AuditController {
 
     private final AuditService auditService;
+    private final NdjsonLineWriter ndjsonLineWriter;
 
-    public AuditController(AuditService auditService) {
+    public AuditController(AuditService auditService, NdjsonLineWriter ndjsonLineWriter) {
         this.auditService = auditService;
+        this.ndjsonLineWriter = ndjsonLineWriter;
     }
 
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN','AUDITOR')")
-    public ResponseEntity<List<AuditLogResponse>> getAuditLogs(
+    public ResponseEntity<CursorPageResponse<AuditLogResponse>> getAuditLogs(
             @RequestParam(required = false) Long vendorId,
-            @RequestParam(required = false) AuditAction action
+            @RequestParam(required = false) AuditAction action,
+            @RequestParam(required = false) String actor,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
     ) {
-        return ResponseEntity.ok(auditService.getLogs(vendorId, action));
+        AuditLogFilter filter = toFilter(vendorId, action, actor, from, to);
+        return ResponseEntity.ok(auditService.getLogs(filter, cursor, size));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN','AUDITOR')")
+    public ResponseEntity<StreamingResponseBody> exportAuditLogs(
+            @RequestParam(required = false) Long vendorId,
+            @RequestParam(required = false) AuditAction action,
+            @RequestParam(required = false) String actor,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        AuditLogFilter filter = toFilter(vendorId, action, actor, from, to);
+        auditService.validateRange(filter);
+        StreamingResponseBody body = outputStream ->
+                auditService.streamLogs(filter, log -> ndjsonLineWriter.write(outputStream, log));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private AuditLogFilter toFilter(
+            Long vendorId,
+            AuditAction action,
+            String actor,
+            LocalDateTime from,
+            LocalDateTime to
+    ) {
+        AuditLogFilter filter = new AuditLogFilter();
+        filter.setVendorId(vendorId);
+        filter.setAction(action);
+        filter.setActorUsername(actor);
+        filter.setFrom(from);
+        filter.setTo(to);
+        return filter;
     }
 }
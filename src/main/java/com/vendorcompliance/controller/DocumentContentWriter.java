@@ -0,0 +1,189 @@
+package com.vendorcompliance.controller;
+
+import com.vendorcompliance.service.DocumentDownload;
+import com.vendorcompliance.storage.DocumentStorage;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+/**
+ * Writes stored document content to the response without materializing it on the heap. Supports strong
+ * ETags (If-None-Match, If-Range) and a single byte range; multi-range requests are answered with the full
+ * content, which RFC 9110 permits. Local files go through Tomcat sendfile when the connector offers it,
+ * otherwise through {@link FileChannel#transferTo}.
+ */
+@Component
+public class DocumentContentWriter {
+
+    private static final String SENDFILE_SUPPORT_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
+    private static final String RANGE_UNIT = "bytes=";
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final DocumentStorage documentStorage;
+
+    public DocumentContentWriter(DocumentStorage documentStorage) {
+        this.documentStorage = documentStorage;
+    }
+
+    public void write(DocumentDownload download, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        String etag = "\"" + download.getSha256() + "\"";
+        long size = download.getSizeBytes();
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+
+        if (matchesIfNoneMatch(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long start = 0;
+        long end = size - 1;
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && (ifRange == null || ifRange.trim().equals(etag))) {
+            long[] range = parseSingleRange(rangeHeader, size);
+            if (range == null) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                return;
+            }
+            if (range.length == 2) {
+                start = range[0];
+                end = range[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+            }
+        }
+
+        long length = end - start + 1;
+        response.setContentType(download.getMimeType());
+        response.setContentLengthLong(length);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(download.getFileName(), StandardCharsets.UTF_8)
+                .build()
+                .toString());
+
+        if ("HEAD".equalsIgnoreCase(request.getMethod()) || length == 0) {
+            return;
+        }
+
+        Optional<Path> localPath = documentStorage.localPath(download.getStorageKey());
+        if (localPath.isPresent()) {
+            if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTRIBUTE))) {
+                request.setAttribute(SENDFILE_FILENAME_ATTRIBUTE, localPath.get().toString());
+                request.setAttribute(SENDFILE_START_ATTRIBUTE, start);
+                request.setAttribute(SENDFILE_END_ATTRIBUTE, end + 1);
+                return;
+            }
+            transferFile(localPath.get(), start, length, response.getOutputStream());
+            return;
+        }
+
+        try (InputStream in = documentStorage.open(download.getStorageKey())) {
+            in.skipNBytes(start);
+            copyRange(in, length, response.getOutputStream());
+        }
+    }
+
+    private static void transferFile(Path path, long start, long length, OutputStream out) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, target);
+                if (transferred <= 0) {
+                    throw new IOException("Unexpected end of file: " + path);
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    private static void copyRange(InputStream in, long length, OutputStream out) throws IOException {
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        long remaining = length;
+        while (remaining > 0) {
+            int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+            if (read == -1) {
+                throw new IOException("Unexpected end of stored content");
+            }
+            out.write(buffer, 0, read);
+            remaining -= read;
+        }
+    }
+
+    private static boolean matchesIfNoneMatch(String header, String etag) {
+        if (header == null) {
+            return false;
+        }
+        for (String candidate : header.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns {start, end} for a satisfiable single range, an empty array when the header should be ignored
+     * (malformed or multi-range), or null when the range cannot be satisfied.
+     */
+    private static long[] parseSingleRange(String header, long size) {
+        if (!header.startsWith(RANGE_UNIT) || header.indexOf(',') >= 0) {
+            return new long[0];
+        }
+        String spec = header.substring(RANGE_UNIT.length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return new long[0];
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+            if (first.isEmpty()) {
+                long suffixLength = Long.parseLong(last);
+                if (suffixLength <= 0) {
+                    return null;
+                }
+                start = Math.max(0, size - suffixLength);
+                end = size - 1;
+            } else {
+                start = Long.parseLong(first);
+                end = last.isEmpty() ? size - 1 : Math.min(Long.parseLong(last), size - 1);
+                if (end < start) {
+                    return start < size ? new long[0] : null;
+                }
+            }
+            return start < size ? new long[]{start, end} : null;
+        } catch (NumberFormatException ex) {
+            return new long[0];
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.vendorcompliance.controller;
+
+import com.vendorcompliance.dto.ScheduledJobStateResponse;
+import com.vendorcompliance.service.ScheduledJobService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/jobs")
+public class JobController {
+
+    private final ScheduledJobService scheduledJobService;
+
+    public JobController(ScheduledJobService scheduledJobService) {
+        this.scheduledJobService = scheduledJobService;
+    }
+
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<ScheduledJobStateResponse>> getJobStates() {
+        return ResponseEntity.ok(scheduledJobService.listJobStates());
+    }
+
+    @PostMapping("/compliance-state/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ScheduledJobStateResponse> rebuildComplianceState() {
+        return ResponseEntity.ok(scheduledJobService.rebuildComplianceState());
+    }
+}
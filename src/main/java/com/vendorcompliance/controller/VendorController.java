@@ -1,8 +1,11 @@
 package com.vendorcompliance.controller;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -11,17 +14,23 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.vendorcompliance.dto.CursorPageResponse;
 import com.vendorcompliance.dto.RiskScoreResponse;
 import com.vendorcompliance.dto.VendorApprovalDecisionRequest;
 import com.vendorcompliance.dto.VendorApprovalRequest;
+import com.vendorcompliance.dto.VendorImportResult;
 import com.vendorcompliance.dto.VendorOnboardingRequest;
 import com.vendorcompliance.dto.VendorResponse;
 import com.vendorcompliance.entity.VendorStatus;
 import com.vendorcompliance.service.RiskService;
+import com.vendorcompliance.service.VendorImportFormat;
+import com.vendorcompliance.service.VendorImportService;
 import com.vendorcompliance.service.VendorService;
 
 import jakarta.validation.Valid;
@@ -32,10 +41,19 @@ public class VendorController {
 
     private final VendorService vendorService;
     private final RiskService riskService;
+    private final NdjsonLineWriter ndjsonLineWriter;
+    private final VendorImportService vendorImportService;
 
-    public VendorController(VendorService vendorService, RiskService riskService) {
+    public VendorController(
+            VendorService vendorService,
+            RiskService riskService,
+            NdjsonLineWriter ndjsonLineWriter,
+            VendorImportService vendorImportService
+    ) {
         this.vendorService = vendorService;
         this.riskService = riskService;
+        this.ndjsonLineWriter = ndjsonLineWriter;
+        this.vendorImportService = vendorImportService;
     }
 
     @PostMapping
@@ -48,6 +66,19 @@ public class VendorController {
         return ResponseEntity.status(HttpStatus.CREATED).body(vendorService.onboardVendor(request, actor));
     }
 
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    @PreAuthorize("hasAnyRole('ADMIN','VENDOR_MANAGER')")
+    public ResponseEntity<VendorImportResult> importVendors(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body,
+            Authentication authentication
+    ) throws IOException {
+        VendorImportFormat format = MediaType.APPLICATION_NDJSON.isCompatibleWith(MediaType.parseMediaType(contentType))
+                ? VendorImportFormat.NDJSON
+                : VendorImportFormat.CSV;
+        return ResponseEntity.ok(vendorImportService.importVendors(body, format, authentication.getName()));
+    }
+
     @GetMapping("/{vendorId}")
     @PreAuthorize("hasAnyRole('ADMIN','VENDOR_MANAGER','AUDITOR','VENDOR')")
     public ResponseEntity<VendorResponse> getVendor(@PathVariable Long vendorId) {
@@ -56,10 +87,24 @@ public class VendorController {
 
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN','VENDOR_MANAGER','AUDITOR')")
-    public ResponseEntity<List<VendorResponse>> listVendors(
+    public ResponseEntity<CursorPageResponse<VendorResponse>> listVendors(
+            @RequestParam(required = false) VendorStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(vendorService.listVendors(status, cursor, size));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN','VENDOR_MANAGER','AUDITOR')")
+    public ResponseEntity<StreamingResponseBody> exportVendors(
             @RequestParam(required = false) VendorStatus status
     ) {
-        return ResponseEntity.ok(vendorService.listVendors(status));
+        StreamingResponseBody body = outputStream ->
+                vendorService.streamVendors(status, vendor -> ndjsonLineWriter.write(outputStream, vendor));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     @PatchMapping("/{vendorId}/approve")
@@ -99,9 +144,12 @@ public class VendorController {
     @PreAuthorize("hasAnyRole('ADMIN','VENDOR_MANAGER','AUDITOR')")
     public ResponseEntity<RiskScoreResponse> calculateRisk(
             @PathVariable Long vendorId,
+            @RequestParam(defaultValue = "false") boolean refresh,
             Authentication authentication
     ) {
         String actor = authentication.getName();
-        return ResponseEntity.ok(riskService.calculateRiskScore(vendorId, actor));
+        return ResponseEntity.ok(refresh
+                ? riskService.recalculateRiskForVendor(vendorId, actor)
+                : riskService.getRiskScore(vendorId, actor));
     }
 }
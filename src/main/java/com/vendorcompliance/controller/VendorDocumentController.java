@@ -1,8 +1,13 @@
 package com.vendorcompliance.controller;
 
+import com.vendorcompliance.dto.DocumentUploadItem;
 import com.vendorcompliance.dto.VendorDocumentResponse;
 import com.vendorcompliance.entity.DocumentType;
+import com.vendorcompliance.exception.BadRequestException;
+import com.vendorcompliance.service.DocumentDownload;
 import com.vendorcompliance.service.VendorDocumentService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -18,7 +23,9 @@ import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 @RestController
@@ -26,9 +33,14 @@ import java.util.List;
 public class VendorDocumentController {
 
     private final VendorDocumentService vendorDocumentService;
+    private final DocumentContentWriter documentContentWriter;
 
-    public VendorDocumentController(VendorDocumentService vendorDocumentService) {
+    public VendorDocumentController(
+            VendorDocumentService vendorDocumentService,
+            DocumentContentWriter documentContentWriter
+    ) {
         this.vendorDocumentService = vendorDocumentService;
+        this.documentContentWriter = documentContentWriter;
     }
 
     @PostMapping(value = "/{vendorId}/documents", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -45,9 +57,42 @@ public class VendorDocumentController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping(value = "/{vendorId}/documents/batch", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN','VENDOR_MANAGER','VENDOR')")
+    public ResponseEntity<List<VendorDocumentResponse>> uploadDocuments(
+            @PathVariable Long vendorId,
+            @RequestParam("types") List<DocumentType> types,
+            @RequestParam("expiryDates") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) List<LocalDate> expiryDates,
+            @RequestPart("files") List<MultipartFile> files,
+            Authentication authentication
+    ) {
+        if (types.size() != files.size() || expiryDates.size() != files.size()) {
+            throw new BadRequestException("Each file needs exactly one type and one expiryDate, in the same order");
+        }
+        List<DocumentUploadItem> items = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            items.add(new DocumentUploadItem(types.get(i), expiryDates.get(i), files.get(i)));
+        }
+        String actor = authentication.getName();
+        List<VendorDocumentResponse> response = vendorDocumentService.uploadDocuments(vendorId, items, actor);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     @GetMapping("/{vendorId}/documents")
     @PreAuthorize("hasAnyRole('ADMIN','VENDOR_MANAGER','AUDITOR','VENDOR')")
     public ResponseEntity<List<VendorDocumentResponse>> listVendorDocuments(@PathVariable Long vendorId) {
         return ResponseEntity.ok(vendorDocumentService.listVendorDocuments(vendorId));
     }
+
+    @GetMapping("/{vendorId}/documents/{documentId}/content")
+    @PreAuthorize("hasAnyRole('ADMIN','VENDOR_MANAGER','AUDITOR','VENDOR')")
+    public void downloadDocumentContent(
+            @PathVariable Long vendorId,
+            @PathVariable Long documentId,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        DocumentDownload download = vendorDocumentService.findDocumentForDownload(vendorId, documentId);
+        documentContentWriter.write(download, request, response);
+    }
 }
@@ -0,0 +1,54 @@
+package com.vendorcompliance.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CursorPageResponse<T> {
+
+    private List<T> items = new ArrayList<>();
+    private String nextCursor;
+    private boolean hasMore;
+    private int size;
+
+    public CursorPageResponse() {
+    }
+
+    public CursorPageResponse(List<T> items, String nextCursor, int size) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasMore = nextCursor != null;
+        this.size = size;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+}
@@ -0,0 +1,31 @@
+package com.vendorcompliance.dto;
+
+import com.vendorcompliance.entity.DocumentType;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.time.LocalDate;
+
+public class DocumentUploadItem {
+
+    private final DocumentType type;
+    private final LocalDate expiryDate;
+    private final MultipartFile file;
+
+    public DocumentUploadItem(DocumentType type, LocalDate expiryDate, MultipartFile file) {
+        this.type = type;
+        this.expiryDate = expiryDate;
+        this.file = file;
+    }
+
+    public DocumentType getType() {
+        return type;
+    }
+
+    public LocalDate getExpiryDate() {
+        return expiryDate;
+    }
+
+    public MultipartFile getFile() {
+        return file;
+    }
+}
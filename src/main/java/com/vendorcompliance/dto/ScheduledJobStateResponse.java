@@ -0,0 +1,97 @@
+package com.vendorcompliance.dto;
+
+import java.time.LocalDateTime;
+
+public class ScheduledJobStateResponse {
+
+    private String name;
+    private boolean running;
+    private String lockedBy;
+    private LocalDateTime lockedUntil;
+    private LocalDateTime lastStartedAt;
+    private LocalDateTime lastFinishedAt;
+    private String lastStatus;
+    private int partitionsTotal;
+    private int partitionsCompleted;
+    private long itemsProcessed;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public void setRunning(boolean running) {
+        this.running = running;
+    }
+
+    public String getLockedBy() {
+        return lockedBy;
+    }
+
+    public void setLockedBy(String lockedBy) {
+        this.lockedBy = lockedBy;
+    }
+
+    public LocalDateTime getLockedUntil() {
+        return lockedUntil;
+    }
+
+    public void setLockedUntil(LocalDateTime lockedUntil) {
+        this.lockedUntil = lockedUntil;
+    }
+
+    public LocalDateTime getLastStartedAt() {
+        return lastStartedAt;
+    }
+
+    public void setLastStartedAt(LocalDateTime lastStartedAt) {
+        this.lastStartedAt = lastStartedAt;
+    }
+
+    public LocalDateTime getLastFinishedAt() {
+        return lastFinishedAt;
+    }
+
+    public void setLastFinishedAt(LocalDateTime lastFinishedAt) {
+        this.lastFinishedAt = lastFinishedAt;
+    }
+
+    public String getLastStatus() {
+        return lastStatus;
+    }
+
+    public void setLastStatus(String lastStatus) {
+        this.lastStatus = lastStatus;
+    }
+
+    public int getPartitionsTotal() {
+        return partitionsTotal;
+    }
+
+    public void setPartitionsTotal(int partitionsTotal) {
+        this.partitionsTotal = partitionsTotal;
+    }
+
+    public int getPartitionsCompleted() {
+        return partitionsCompleted;
+    }
+
+    public void setPartitionsCompleted(int partitionsCompleted) {
+        this.partitionsCompleted = partitionsCompleted;
+    }
+
+    public long getItemsProcessed() {
+        return itemsProcessed;
+    }
+
+    public void setItemsProcessed(long itemsProcessed) {
+        this.itemsProcessed = itemsProcessed;
+    }
+}
@@ -11,6 +11,8 @@ public class VendorDocumentResponse {
     private DocumentType type;
     private String fileName;
     private String mimeType;
+    private Long sizeBytes;
+    private String sha256;
     private LocalDate expiryDate;
     private boolean expired;
     private String uploadedBy;
@@ -48,6 +50,22 @@ public class VendorDocumentResponse {
         this.mimeType = mimeType;
     }
 
+    public Long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public void setSizeBytes(Long sizeBytes) {
+        this.sizeBytes = sizeBytes;
+    }
+
+    public String getSha256() {
+        return sha256;
+    }
+
+    public void setSha256(String sha256) {
+        this.sha256 = sha256;
+    }
+
     public LocalDate getExpiryDate() {
         return expiryDate;
     }
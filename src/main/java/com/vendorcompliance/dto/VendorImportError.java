@@ -0,0 +1,41 @@
+package com.vendorcompliance.dto;
+
+public class VendorImportError {
+
+    private long lineNumber;
+    private String registrationNumber;
+    private String message;
+
+    public VendorImportError() {
+    }
+
+    public VendorImportError(long lineNumber, String registrationNumber, String message) {
+        this.lineNumber = lineNumber;
+        this.registrationNumber = registrationNumber;
+        this.message = message;
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    public void setLineNumber(long lineNumber) {
+        this.lineNumber = lineNumber;
+    }
+
+    public String getRegistrationNumber() {
+        return registrationNumber;
+    }
+
+    public void setRegistrationNumber(String registrationNumber) {
+        this.registrationNumber = registrationNumber;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
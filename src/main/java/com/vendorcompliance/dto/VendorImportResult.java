@@ -0,0 +1,53 @@
+package com.vendorcompliance.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class VendorImportResult {
+
+    private long totalRows;
+    private long importedCount;
+    private long failedCount;
+    private List<VendorImportError> errors = new ArrayList<>();
+    private boolean errorsTruncated;
+
+    public long getTotalRows() {
+        return totalRows;
+    }
+
+    public void setTotalRows(long totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public long getImportedCount() {
+        return importedCount;
+    }
+
+    public void setImportedCount(long importedCount) {
+        this.importedCount = importedCount;
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    public void setFailedCount(long failedCount) {
+        this.failedCount = failedCount;
+    }
+
+    public List<VendorImportError> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<VendorImportError> errors) {
+        this.errors = errors;
+    }
+
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+
+    public void setErrorsTruncated(boolean errorsTruncated) {
+        this.errorsTruncated = errorsTruncated;
+    }
+}
@@ -6,5 +6,6 @@ public enum AuditAction {
     VENDOR_APPROVED,
     VENDOR_REJECTED,
     DOCUMENT_UPLOADED,
-    RISK_SCORE_CALCULATED
+    RISK_SCORE_CALCULATED,
+    RISK_SCORE_DAILY_SUMMARY
 }
@@ -9,15 +9,24 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "audit_logs")
+@Table(name = "audit_logs", indexes = {
+        @Index(name = "idx_audit_logs_created_at", columnList = "created_at, id"),
+        @Index(name = "idx_audit_logs_vendor_created_at", columnList = "vendor_id, created_at, id"),
+        @Index(name = "idx_audit_logs_action_created_at", columnList = "action, created_at, id"),
+        @Index(name = "idx_audit_logs_actor_created_at", columnList = "actor_username, created_at, id")
+})
 public class AuditLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "audit_logs_seq")
+    @SequenceGenerator(name = "audit_logs_seq", sequenceName = "audit_logs_seq",
+            allocationSize = EntityIds.ALLOCATION_SIZE)
     private Long id;
 
     @Enumerated(EnumType.STRING)
@@ -38,7 +47,9 @@ public class AuditLog {
 
     @PrePersist
     public void prePersist() {
-        this.createdAt = LocalDateTime.now();
+        if (this.createdAt == null) {
+            this.createdAt = LocalDateTime.now();
+        }
     }
 
     public Long getId() {
@@ -84,4 +95,8 @@ public class AuditLog {
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
 }
@@ -0,0 +1,13 @@
+package com.vendorcompliance.entity;
+
+/**
+ * Shared id generation settings. Every entity draws ids from its own pooled sequence; the allocation size
+ * is the block of ids Hibernate reserves per sequence call and must match the sequences' INCREMENT BY.
+ */
+public final class EntityIds {
+
+    public static final int ALLOCATION_SIZE = 50;
+
+    private EntityIds() {
+    }
+}
@@ -0,0 +1,113 @@
+package com.vendorcompliance.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "scheduled_job_state")
+public class ScheduledJobState {
+
+    @Id
+    @Column(length = 80)
+    private String name;
+
+    @Column
+    private LocalDateTime lockedUntil;
+
+    @Column(length = 120)
+    private String lockedBy;
+
+    @Column
+    private LocalDateTime lastStartedAt;
+
+    @Column
+    private LocalDateTime lastFinishedAt;
+
+    @Column(length = 20)
+    private String lastStatus;
+
+    @Column(nullable = false)
+    private Integer partitionsTotal = 0;
+
+    @Column(nullable = false)
+    private Integer partitionsCompleted = 0;
+
+    @Column(nullable = false)
+    private Long itemsProcessed = 0L;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public LocalDateTime getLockedUntil() {
+        return lockedUntil;
+    }
+
+    public void setLockedUntil(LocalDateTime lockedUntil) {
+        this.lockedUntil = lockedUntil;
+    }
+
+    public String getLockedBy() {
+        return lockedBy;
+    }
+
+    public void setLockedBy(String lockedBy) {
+        this.lockedBy = lockedBy;
+    }
+
+    public LocalDateTime getLastStartedAt() {
+        return lastStartedAt;
+    }
+
+    public void setLastStartedAt(LocalDateTime lastStartedAt) {
+        this.lastStartedAt = lastStartedAt;
+    }
+
+    public LocalDateTime getLastFinishedAt() {
+        return lastFinishedAt;
+    }
+
+    public void setLastFinishedAt(LocalDateTime lastFinishedAt) {
+        this.lastFinishedAt = lastFinishedAt;
+    }
+
+    public String getLastStatus() {
+        return lastStatus;
+    }
+
+    public void setLastStatus(String lastStatus) {
+        this.lastStatus = lastStatus;
+    }
+
+    public Integer getPartitionsTotal() {
+        return partitionsTotal;
+    }
+
+    public void setPartitionsTotal(Integer partitionsTotal) {
+        this.partitionsTotal = partitionsTotal;
+    }
+
+    public Integer getPartitionsCompleted() {
+        return partitionsCompleted;
+    }
+
+    public void setPartitionsCompleted(Integer partitionsCompleted) {
+        this.partitionsCompleted = partitionsCompleted;
+    }
+
+    public Long getItemsProcessed() {
+        return itemsProcessed;
+    }
+
+    public void setItemsProcessed(Long itemsProcessed) {
+        this.itemsProcessed = itemsProcessed;
+    }
+}
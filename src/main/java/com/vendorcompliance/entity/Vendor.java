@@ -9,6 +9,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
 import java.time.LocalDateTime;
@@ -18,7 +19,9 @@ import java.time.LocalDateTime;
 public class Vendor {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "vendors_seq")
+    @SequenceGenerator(name = "vendors_seq", sequenceName = "vendors_seq",
+            allocationSize = EntityIds.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, length = 180)
@@ -49,6 +52,9 @@ public class Vendor {
     @Column
     private LocalDateTime lastRiskCalculatedAt;
 
+    @Column(length = 100)
+    private String riskBreakdown;
+
     @Column(length = 600)
     private String onboardingNotes;
 
@@ -156,6 +162,14 @@ public class Vendor {
         this.lastRiskCalculatedAt = lastRiskCalculatedAt;
     }
 
+    public String getRiskBreakdown() {
+        return riskBreakdown;
+    }
+
+    public void setRiskBreakdown(String riskBreakdown) {
+        this.riskBreakdown = riskBreakdown;
+    }
+
     public String getOnboardingNotes() {
         return onboardingNotes;
     }
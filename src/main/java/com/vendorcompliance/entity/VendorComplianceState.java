@@ -0,0 +1,92 @@
+package com.vendorcompliance.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Materialized compliance snapshot: one row per vendor and document type with the latest document of that
+ * type, plus the vendor's unresolved audit flag count repeated on each row. A vendor has either a row for
+ * every type or none at all; no rows means no documents and no flags yet.
+ */
+@Entity
+@Table(name = "vendor_compliance_state")
+@IdClass(VendorComplianceStateId.class)
+public class VendorComplianceState {
+
+    @Id
+    @Column(name = "vendor_id")
+    private Long vendorId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "document_type", length = 40)
+    private DocumentType documentType;
+
+    @Column
+    private Long latestDocumentId;
+
+    @Column
+    private LocalDateTime latestUploadedAt;
+
+    @Column
+    private LocalDate expiryDate;
+
+    @Column(nullable = false)
+    private Integer unresolvedFlags = 0;
+
+    public Long getVendorId() {
+        return vendorId;
+    }
+
+    public void setVendorId(Long vendorId) {
+        this.vendorId = vendorId;
+    }
+
+    public DocumentType getDocumentType() {
+        return documentType;
+    }
+
+    public void setDocumentType(DocumentType documentType) {
+        this.documentType = documentType;
+    }
+
+    public Long getLatestDocumentId() {
+        return latestDocumentId;
+    }
+
+    public void setLatestDocumentId(Long latestDocumentId) {
+        this.latestDocumentId = latestDocumentId;
+    }
+
+    public LocalDateTime getLatestUploadedAt() {
+        return latestUploadedAt;
+    }
+
+    public void setLatestUploadedAt(LocalDateTime latestUploadedAt) {
+        this.latestUploadedAt = latestUploadedAt;
+    }
+
+    public LocalDate getExpiryDate() {
+        return expiryDate;
+    }
+
+    public void setExpiryDate(LocalDate expiryDate) {
+        this.expiryDate = expiryDate;
+    }
+
+    public Integer getUnresolvedFlags() {
+        return unresolvedFlags;
+    }
+
+    public void setUnresolvedFlags(Integer unresolvedFlags) {
+        this.unresolvedFlags = unresolvedFlags;
+    }
+}
@@ -0,0 +1,42 @@
+package com.vendorcompliance.entity;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+public class VendorComplianceStateId implements Serializable {
+
+    private Long vendorId;
+    private DocumentType documentType;
+
+    public VendorComplianceStateId() {
+    }
+
+    public VendorComplianceStateId(Long vendorId, DocumentType documentType) {
+        this.vendorId = vendorId;
+        this.documentType = documentType;
+    }
+
+    public Long getVendorId() {
+        return vendorId;
+    }
+
+    public DocumentType getDocumentType() {
+        return documentType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof VendorComplianceStateId other)) {
+            return false;
+        }
+        return Objects.equals(vendorId, other.vendorId) && documentType == other.documentType;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(vendorId, documentType);
+    }
+}
@@ -1,6 +1,5 @@
 package com.vendorcompliance.entity;
 
-import jakarta.persistence.Basic;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -9,21 +8,26 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "vendor_documents")
+@Table(name = "vendor_documents", indexes = {
+        @Index(name = "idx_vendor_documents_vendor_type_uploaded_at", columnList = "vendor_id, type, uploaded_at")
+})
 public class VendorDocument {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "vendor_documents_seq")
+    @SequenceGenerator(name = "vendor_documents_seq", sequenceName = "vendor_documents_seq",
+            allocationSize = EntityIds.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -40,10 +44,15 @@ public class VendorDocument {
     @Column(nullable = false, length = 120)
     private String mimeType;
 
-    @Lob
-    @Basic(fetch = FetchType.LAZY)
-    @Column(nullable = false)
-    private byte[] content;
+    // Content lives in DocumentStorage; rows created before that keep null here until migrated
+    @Column(length = 64)
+    private String sha256;
+
+    @Column
+    private Long sizeBytes;
+
+    @Column(length = 200)
+    private String storageKey;
 
     @Column(nullable = false)
     private LocalDate expiryDate;
@@ -99,12 +108,28 @@ public class VendorDocument {
         this.mimeType = mimeType;
     }
 
-    public byte[] getContent() {
-        return content;
+    public String getSha256() {
+        return sha256;
+    }
+
+    public void setSha256(String sha256) {
+        this.sha256 = sha256;
+    }
+
+    public Long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public void setSizeBytes(Long sizeBytes) {
+        this.sizeBytes = sizeBytes;
+    }
+
+    public String getStorageKey() {
+        return storageKey;
     }
 
-    public void setContent(byte[] content) {
-        this.content = content;
+    public void setStorageKey(String storageKey) {
+        this.storageKey = storageKey;
     }
 
     public LocalDate getExpiryDate() {
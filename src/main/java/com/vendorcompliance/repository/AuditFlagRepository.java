@@ -1,13 +1,28 @@
 package com.vendorcompliance.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 
 import com.vendorcompliance.entity.AuditFlag;
 
+import jakarta.persistence.LockModeType;
+
 public interface AuditFlagRepository extends JpaRepository<AuditFlag, Long> {
+    // Serializes concurrent resolutions so the unresolved counter is decremented once
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT f FROM AuditFlag f WHERE f.id = :id")
+    Optional<AuditFlag> findByIdForUpdate(Long id);
+
     List<AuditFlag> findByVendorIdAndResolvedFalse(Long vendorId);
 
     long countByVendorIdAndResolvedFalse(Long vendorId);
+
+    @Query("SELECT DISTINCT f.vendor.id FROM AuditFlag f WHERE f.vendor.id IN :vendorIds"
+            + " AND f.resolved = false AND f.description LIKE CONCAT(:descriptionPrefix, '%')")
+    List<Long> findVendorIdsWithUnresolvedFlag(Collection<Long> vendorIds, String descriptionPrefix);
 }
@@ -0,0 +1,54 @@
+package com.vendorcompliance.repository;
+
+import com.vendorcompliance.entity.AuditAction;
+
+import java.time.LocalDateTime;
+
+public class AuditLogFilter {
+
+    private Long vendorId;
+    private AuditAction action;
+    private String actorUsername;
+    private LocalDateTime from;
+    private LocalDateTime to;
+
+    public Long getVendorId() {
+        return vendorId;
+    }
+
+    public void setVendorId(Long vendorId) {
+        this.vendorId = vendorId;
+    }
+
+    public AuditAction getAction() {
+        return action;
+    }
+
+    public void setAction(AuditAction action) {
+        this.action = action;
+    }
+
+    public String getActorUsername() {
+        return actorUsername;
+    }
+
+    public void setActorUsername(String actorUsername) {
+        this.actorUsername = actorUsername;
+    }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDateTime from) {
+        this.from = from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDateTime to) {
+        this.to = to;
+    }
+}
@@ -0,0 +1,13 @@
+package com.vendorcompliance.repository;
+
+import com.vendorcompliance.entity.AuditLog;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface AuditLogRepositoryCustom {
+    List<AuditLog> findPage(AuditLogFilter filter, LocalDateTime afterCreatedAt, Long afterId, int limit);
+
+    Stream<AuditLog> stream(AuditLogFilter filter);
+}
@@ -0,0 +1,86 @@
+package com.vendorcompliance.repository;
+
+import com.vendorcompliance.entity.AuditLog;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Builds only the predicates that are actually requested so every query can be served by one of the
+ * {@code (filter column, created_at)} indexes declared on {@link AuditLog}, ordered newest first.
+ */
+public class AuditLogRepositoryImpl implements AuditLogRepositoryCustom {
+
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private final EntityManager entityManager;
+
+    public AuditLogRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<AuditLog> findPage(AuditLogFilter filter, LocalDateTime afterCreatedAt, Long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AuditLog> query = cb.createQuery(AuditLog.class);
+        Root<AuditLog> root = query.from(AuditLog.class);
+
+        List<Predicate> predicates = filterPredicates(cb, root, filter);
+        if (afterCreatedAt != null && afterId != null) {
+            predicates.add(cb.or(
+                    cb.lessThan(root.get("createdAt"), afterCreatedAt),
+                    cb.and(cb.equal(root.get("createdAt"), afterCreatedAt), cb.lessThan(root.get("id"), afterId))
+            ));
+        }
+
+        query.select(root)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(root.get("createdAt")), cb.desc(root.get("id")));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<AuditLog> stream(AuditLogFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AuditLog> query = cb.createQuery(AuditLog.class);
+        Root<AuditLog> root = query.from(AuditLog.class);
+
+        query.select(root)
+                .where(filterPredicates(cb, root, filter).toArray(Predicate[]::new))
+                .orderBy(cb.desc(root.get("createdAt")), cb.desc(root.get("id")));
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private List<Predicate> filterPredicates(CriteriaBuilder cb, Root<AuditLog> root, AuditLogFilter filter) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.getVendorId() != null) {
+            predicates.add(cb.equal(root.get("vendorId"), filter.getVendorId()));
+        }
+        if (filter.getAction() != null) {
+            predicates.add(cb.equal(root.get("action"), filter.getAction()));
+        }
+        if (filter.getActorUsername() != null) {
+            predicates.add(cb.equal(root.get("actorUsername"), filter.getActorUsername()));
+        }
+        if (filter.getFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), filter.getFrom()));
+        }
+        if (filter.getTo() != null) {
+            predicates.add(cb.lessThan(root.get("createdAt"), filter.getTo()));
+        }
+        return predicates;
+    }
+}
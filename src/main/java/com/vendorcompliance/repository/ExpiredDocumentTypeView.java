@@ -0,0 +1,22 @@
+package com.vendorcompliance.repository;
+
+import com.vendorcompliance.entity.DocumentType;
+
+public class ExpiredDocumentTypeView {
+
+    private final Long vendorId;
+    private final DocumentType type;
+
+    public ExpiredDocumentTypeView(Long vendorId, DocumentType type) {
+        this.vendorId = vendorId;
+        this.type = type;
+    }
+
+    public Long getVendorId() {
+        return vendorId;
+    }
+
+    public DocumentType getType() {
+        return type;
+    }
+}
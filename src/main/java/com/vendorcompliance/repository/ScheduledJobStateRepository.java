@@ -0,0 +1,10 @@
+package com.vendorcompliance.repository;
+
+import com.vendorcompliance.entity.ScheduledJobState;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface ScheduledJobStateRepository extends JpaRepository<ScheduledJobState, String> {
+    List<ScheduledJobState> findAllByOrderByNameAsc();
+}
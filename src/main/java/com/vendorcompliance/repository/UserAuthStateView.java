@@ -0,0 +1,22 @@
+package com.vendorcompliance.repository;
+
+import java.time.LocalDateTime;
+
+public class UserAuthStateView {
+
+    private final boolean enabled;
+    private final LocalDateTime updatedAt;
+
+    public UserAuthStateView(boolean enabled, LocalDateTime updatedAt) {
+        this.enabled = enabled;
+        this.updatedAt = updatedAt;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
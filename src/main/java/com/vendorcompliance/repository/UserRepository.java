@@ -2,12 +2,17 @@ package com.vendorcompliance.repository;
 
 import com.vendorcompliance.entity.AppUser;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<AppUser, Long> {
     Optional<AppUser> findByUsername(String username);
 
+    @Query("SELECT new com.vendorcompliance.repository.UserAuthStateView(u.enabled, u.updatedAt)"
+            + " FROM AppUser u WHERE u.username = :username")
+    Optional<UserAuthStateView> findAuthStateByUsername(String username);
+
     boolean existsByUsername(String username);
 
     boolean existsByEmail(String email);
@@ -0,0 +1,31 @@
+package com.vendorcompliance.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import com.vendorcompliance.entity.VendorComplianceState;
+import com.vendorcompliance.entity.VendorComplianceStateId;
+
+public interface VendorComplianceStateRepository
+        extends JpaRepository<VendorComplianceState, VendorComplianceStateId> {
+
+    List<VendorComplianceState> findByVendorId(Long vendorId);
+
+    @Query("SELECT DISTINCT s.vendorId FROM VendorComplianceState s WHERE s.vendorId IN :vendorIds")
+    List<Long> findVendorIdsWithState(Collection<Long> vendorIds);
+
+    // Only the latest document per type counts; a renewed document clears an older expired one
+    @Query("SELECT DISTINCT s.vendorId FROM VendorComplianceState s JOIN Vendor v ON v.id = s.vendorId"
+            + " WHERE s.expiryDate <= :date AND v.status = 'APPROVED' AND s.vendorId > :afterVendorId"
+            + " AND s.vendorId <= :maxVendorId ORDER BY s.vendorId")
+    List<Long> findVendorIdsWithExpiredDocuments(LocalDate date, Long afterVendorId, Long maxVendorId, Pageable pageable);
+
+    @Query("SELECT new com.vendorcompliance.repository.ExpiredDocumentTypeView(s.vendorId, s.documentType)"
+            + " FROM VendorComplianceState s WHERE s.vendorId IN :vendorIds AND s.expiryDate <= :date")
+    List<ExpiredDocumentTypeView> findExpiredDocumentTypes(Collection<Long> vendorIds, LocalDate date);
+}
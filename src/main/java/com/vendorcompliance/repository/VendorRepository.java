@@ -1,18 +1,57 @@
 package com.vendorcompliance.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import com.vendorcompliance.entity.Vendor;
 import com.vendorcompliance.entity.VendorStatus;
 
+import jakarta.persistence.QueryHint;
+
 public interface VendorRepository extends JpaRepository<Vendor, Long> {
-    List<Vendor> findByStatusOrderByCreatedAtDesc(VendorStatus status);
+    @Query("SELECT v FROM Vendor v ORDER BY v.createdAt DESC, v.id DESC")
+    List<Vendor> findFirstPage(Pageable pageable);
+
+    @Query("SELECT v FROM Vendor v WHERE v.createdAt < :createdAt OR (v.createdAt = :createdAt AND v.id < :id)"
+            + " ORDER BY v.createdAt DESC, v.id DESC")
+    List<Vendor> findPageAfter(LocalDateTime createdAt, Long id, Pageable pageable);
+
+    @Query("SELECT v FROM Vendor v WHERE v.status = :status ORDER BY v.createdAt DESC, v.id DESC")
+    List<Vendor> findFirstPageByStatus(VendorStatus status, Pageable pageable);
 
-    List<Vendor> findAllByOrderByCreatedAtDesc();
+    @Query("SELECT v FROM Vendor v WHERE v.status = :status"
+            + " AND (v.createdAt < :createdAt OR (v.createdAt = :createdAt AND v.id < :id))"
+            + " ORDER BY v.createdAt DESC, v.id DESC")
+    List<Vendor> findPageAfterByStatus(VendorStatus status, LocalDateTime createdAt, Long id, Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT v FROM Vendor v ORDER BY v.createdAt DESC, v.id DESC")
+    Stream<Vendor> streamAll();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT v FROM Vendor v WHERE v.status = :status ORDER BY v.createdAt DESC, v.id DESC")
+    Stream<Vendor> streamByStatus(VendorStatus status);
 
     boolean existsByRegistrationNumber(String registrationNumber);
 
-    List<Vendor> findByRiskScoreGreaterThanEqual(Integer riskScore);
+    @Query("SELECT v.registrationNumber FROM Vendor v WHERE v.registrationNumber IN :registrationNumbers")
+    List<String> findExistingRegistrationNumbers(Collection<String> registrationNumbers);
+
+    @Query("SELECT new com.vendorcompliance.repository.VendorRiskView(v.id, v.riskScore) FROM Vendor v"
+            + " WHERE v.riskScore >= :riskScore AND v.id > :afterVendorId AND v.id <= :maxVendorId ORDER BY v.id")
+    List<VendorRiskView> findRiskScoresAtLeast(Integer riskScore, Long afterVendorId, Long maxVendorId, Pageable pageable);
 }
@@ -0,0 +1,20 @@
+package com.vendorcompliance.repository;
+
+public class VendorRiskView {
+
+    private final Long vendorId;
+    private final Integer riskScore;
+
+    public VendorRiskView(Long vendorId, Integer riskScore) {
+        this.vendorId = vendorId;
+        this.riskScore = riskScore;
+    }
+
+    public Long getVendorId() {
+        return vendorId;
+    }
+
+    public Integer getRiskScore() {
+        return riskScore;
+    }
+}
@@ -1,11 +1,18 @@
 package com.vendorcompliance.security;
 
+import com.vendorcompliance.repository.UserAuthStateView;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -13,16 +20,46 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    // DATETIME columns may round updatedAt up to the next second, while iat is truncated to seconds
+    private static final long ISSUED_AT_TOLERANCE_MS = 1000;
+
+    private enum Outcome { NO_TOKEN, INVALID_TOKEN, AUTHENTICATED, REJECTED, ALREADY_AUTHENTICATED }
+
     private final JwtUtil jwtUtil;
     private final CustomUserDetailsService customUserDetailsService;
+    private final UserAuthStateCache userAuthStateCache;
+    private final Map<Outcome, Timer> timers = new EnumMap<>(Outcome.class);
+
+    @Value("${app.security.stateless-auth.enabled:true}")
+    private boolean statelessAuthEnabled;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, CustomUserDetailsService customUserDetailsService) {
+    public JwtAuthenticationFilter(
+            JwtUtil jwtUtil,
+            CustomUserDetailsService customUserDetailsService,
+            UserAuthStateCache userAuthStateCache,
+            MeterRegistry meterRegistry
+    ) {
         this.jwtUtil = jwtUtil;
         this.customUserDetailsService = customUserDetailsService;
+        this.userAuthStateCache = userAuthStateCache;
+        // Registered up front so the per-request path only looks up a timer
+        for (Outcome outcome : Outcome.values()) {
+            timers.put(outcome, Timer.builder("compliance.security.jwt.filter")
+                    .description("Time spent authenticating a request from its bearer token")
+                    .tag("outcome", outcome.name().toLowerCase())
+                    .register(meterRegistry));
+        }
     }
 
     @Override
@@ -31,32 +68,69 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             HttpServletResponse response,
             FilterChain filterChain
     ) throws ServletException, IOException {
+        long startedAt = System.nanoTime();
+        Outcome outcome = authenticate(request);
+        timers.get(outcome).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+        filterChain.doFilter(request, response);
+    }
+
+    private Outcome authenticate(HttpServletRequest request) {
         String token = jwtUtil.resolveToken(request.getHeader(HttpHeaders.AUTHORIZATION));
         if (token == null) {
-            filterChain.doFilter(request, response);
-            return;
+            return Outcome.NO_TOKEN;
         }
 
-        String username;
-        try {
-            username = jwtUtil.extractUsername(token);
-        } catch (Exception ex) {
+        Claims claims = jwtUtil.parseClaims(token);
+        if (claims == null) {
             SecurityContextHolder.clearContext();
-            filterChain.doFilter(request, response);
-            return;
+            return Outcome.INVALID_TOKEN;
+        }
+
+        String username = claims.getSubject();
+        if (username == null) {
+            return Outcome.REJECTED;
         }
+        if (SecurityContextHolder.getContext().getAuthentication() != null) {
+            return Outcome.ALREADY_AUTHENTICATED;
+        }
+        UsernamePasswordAuthenticationToken authentication = statelessAuthEnabled
+                ? authenticateFromClaims(username, claims)
+                : authenticateFromDatabase(username);
+        if (authentication == null) {
+            return Outcome.REJECTED;
+        }
+        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        return Outcome.AUTHENTICATED;
+    }
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
-            if (jwtUtil.isTokenValid(token, userDetails)) {
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities()
-                );
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-            }
+    private UsernamePasswordAuthenticationToken authenticateFromClaims(String username, Claims claims) {
+        Optional<UserAuthStateView> state = userAuthStateCache.get(username);
+        if (state.isEmpty() || !state.get().isEnabled() || isIssuedBeforeLastUpdate(claims, state.get())) {
+            return null;
         }
 
-        filterChain.doFilter(request, response);
+        List<GrantedAuthority> authorities = jwtUtil.extractRoles(claims).stream()
+                .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(role))
+                .toList();
+        return new UsernamePasswordAuthenticationToken(username, null, authorities);
+    }
+
+    private UsernamePasswordAuthenticationToken authenticateFromDatabase(String username) {
+        UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
+        if (!userDetails.isEnabled()) {
+            return null;
+        }
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
+
+    private boolean isIssuedBeforeLastUpdate(Claims claims, UserAuthStateView state) {
+        Date issuedAt = claims.getIssuedAt();
+        if (issuedAt == null || state.getUpdatedAt() == null) {
+            return false;
+        }
+        long updatedAtMs = state.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return updatedAtMs > issuedAt.getTime() + ISSUED_AT_TOLERANCE_MS;
     }
 }
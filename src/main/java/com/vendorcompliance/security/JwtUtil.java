@@ -1,9 +1,16 @@
 package com.vendorcompliance.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
@@ -15,19 +22,34 @@ import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtUtil {
 
+    private static final String ROLES_CLAIM = "roles";
+
+    private final MeterRegistry meterRegistry;
+
     @Value("${app.jwt.secret}")
     private String secret;
 
     @Value("${app.jwt.expiration-ms}")
     private long expirationMs;
 
+    @Value("${app.jwt.cache.max-size:10000}")
+    private long cacheMaxSize;
+
     private SecretKey signingKey;
+    private JwtParser jwtParser;
+    private Cache<String, Claims> verifiedTokens;
+
+    public JwtUtil(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
 
     @PostConstruct
     public void init() {
@@ -36,6 +58,16 @@ public class JwtUtil {
             keyBytes = hashToSha256(keyBytes);
         }
         this.signingKey = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        // Keyed by a digest of the token so raw bearer tokens are never held in memory longer than the request
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwtClaims");
     }
 
     public String generateToken(UserDetails userDetails) {
@@ -48,21 +80,13 @@ public class JwtUtil {
 
         return Jwts.builder()
                 .setSubject(userDetails.getUsername())
-                .claim("roles", roles)
+                .claim(ROLES_CLAIM, roles)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
                 .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public String extractUsername(String token) {
-        return extractClaims(token).getSubject();
-    }
-
-    public Date extractExpiration(String token) {
-        return extractClaims(token).getExpiration();
-    }
-
     public String resolveToken(String authorizationHeader) {
         if (!StringUtils.hasText(authorizationHeader) || !authorizationHeader.startsWith("Bearer ")) {
             return null;
@@ -70,29 +94,56 @@ public class JwtUtil {
         return authorizationHeader.substring(7);
     }
 
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        return isTokenValid(token) && extractUsername(token).equals(userDetails.getUsername());
-    }
+    /**
+     * Returns the verified claims of a token, or null if the signature is invalid or the token has expired.
+     * A token is parsed and verified at most once until it expires or is evicted.
+     */
+    public Claims parseClaims(String token) {
+        String digest = digest(token);
+        Claims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            return isUnexpired(cached) ? cached : null;
+        }
 
-    public boolean isTokenValid(String token) {
+        Claims claims;
         try {
-            extractClaims(token);
-            return true;
-        } catch (Exception ex) {
-            return false;
+            claims = jwtParser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException ex) {
+            return null;
+        }
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(digest, claims);
+        }
+        return claims;
+    }
+
+    public List<String> extractRoles(Claims claims) {
+        List<?> roles = claims.get(ROLES_CLAIM, List.class);
+        if (roles == null) {
+            return List.of();
         }
+        return roles.stream().map(String::valueOf).toList();
+    }
+
+    public boolean isTokenValid(String token) {
+        return parseClaims(token) != null;
     }
 
     public long getExpirationMs() {
         return expirationMs;
     }
 
-    private Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(signingKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    private boolean isUnexpired(Claims claims) {
+        return claims.getExpiration().getTime() > System.currentTimeMillis();
+    }
+
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
     }
 
     private byte[] hashToSha256(byte[] input) {
@@ -102,4 +153,23 @@ public class JwtUtil {
             throw new IllegalStateException("Unable to initialize JWT signing key", ex);
         }
     }
+
+    private static final class TokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            long remainingMs = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMs));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
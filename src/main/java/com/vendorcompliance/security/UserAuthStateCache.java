@@ -0,0 +1,61 @@
+package com.vendorcompliance.security;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.vendorcompliance.repository.UserAuthStateView;
+import com.vendorcompliance.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Short-lived cache of each user's enabled flag and last update time, so claims-based authentication
+ * can reject disabled or changed accounts without loading the full user and its roles per request.
+ * Call {@link #invalidate(String)} after changing a user to make the change effective immediately.
+ */
+@Component
+public class UserAuthStateCache {
+
+    private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.security.user-state-cache.ttl:PT30S}")
+    private Duration ttl;
+
+    @Value("${app.security.user-state-cache.max-size:10000}")
+    private long maxSize;
+
+    private LoadingCache<String, Optional<UserAuthStateView>> states;
+
+    public UserAuthStateCache(UserRepository userRepository, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        states = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build(userRepository::findAuthStateByUsername);
+        CaffeineCacheMetrics.monitor(meterRegistry, states, "userAuthState");
+    }
+
+    public Optional<UserAuthStateView> get(String username) {
+        return states.get(username);
+    }
+
+    public void invalidate(String username) {
+        states.invalidate(username);
+    }
+
+    public void invalidateAll() {
+        states.invalidateAll();
+    }
+}
@@ -0,0 +1,56 @@
+package com.vendorcompliance.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Evicts cache entries once the current transaction commits and again {@code app.cache.re-evict-delay} later.
+ * A reader that missed the cache, loaded the old value before the commit and cached it after the first eviction
+ * has its entry dropped by the second one. A stale value can only survive until the TTL if its reader caches it
+ * more than the delay after the commit, e.g. after a long GC pause. Readers whose results are cached must read on
+ * the primary, as a lagging replica would widen that window by its lag.
+ */
+@Component
+public class AfterCommitCacheEvictor {
+
+    private final TaskScheduler taskScheduler;
+
+    @Value("${app.cache.re-evict-delay:PT2S}")
+    private Duration reEvictDelay;
+
+    public AfterCommitCacheEvictor(TaskScheduler taskScheduler) {
+        this.taskScheduler = taskScheduler;
+    }
+
+    /**
+     * The cache is expected to be transaction-aware, so the first eviction already waits for the commit.
+     */
+    public void evict(Cache cache, Collection<?> keys) {
+        List<?> evicted = List.copyOf(keys);
+        evicted.forEach(cache::evict);
+        if (reEvictDelay.isZero()) {
+            return;
+        }
+        Runnable scheduleReEvict = () -> taskScheduler.schedule(() -> evicted.forEach(cache::evict),
+                Instant.now().plus(reEvictDelay));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    scheduleReEvict.run();
+                }
+            });
+        } else {
+            scheduleReEvict.run();
+        }
+    }
+}
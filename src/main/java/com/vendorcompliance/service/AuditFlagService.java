@@ -4,6 +4,7 @@ import com.vendorcompliance.entity.AuditFlag;
 import com.vendorcompliance.entity.Vendor;
 import com.vendorcompliance.exception.ResourceNotFoundException;
 import com.vendorcompliance.repository.AuditFlagRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,21 +16,25 @@ public class AuditFlagService {
 
     private final AuditFlagRepository auditFlagRepository;
     private final VendorService vendorService;
-    private final RiskService riskService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final VendorComplianceStateService vendorComplianceStateService;
 
     public AuditFlagService(
             AuditFlagRepository auditFlagRepository,
             VendorService vendorService,
-            RiskService riskService
+            ApplicationEventPublisher eventPublisher,
+            VendorComplianceStateService vendorComplianceStateService
     ) {
         this.auditFlagRepository = auditFlagRepository;
         this.vendorService = vendorService;
-        this.riskService = riskService;
+        this.eventPublisher = eventPublisher;
+        this.vendorComplianceStateService = vendorComplianceStateService;
     }
 
     @Transactional
     public AuditFlag addAuditFlag(Long vendorId, String description, String actor) {
-        Vendor vendor = vendorService.findVendorOrThrow(vendorId);
+        Vendor vendor = vendorService.getVendorReference(vendorId);
+        vendorComplianceStateService.ensureInitialized(List.of(vendorId));
 
         AuditFlag flag = new AuditFlag();
         flag.setVendor(vendor);
@@ -37,24 +42,31 @@ public class AuditFlagService {
         flag.setResolved(false);
 
         AuditFlag savedFlag = auditFlagRepository.save(flag);
+        vendorComplianceStateService.adjustUnresolvedFlags(List.of(vendorId), 1);
 
-        // Recalculate risk when new audit flag is added
-        riskService.recalculateRiskForVendor(vendorId, actor);
+        // Recalculate risk once the new audit flag commits
+        eventPublisher.publishEvent(new VendorRiskInputsChangedEvent(vendorId, actor));
 
         return savedFlag;
     }
 
     @Transactional
     public AuditFlag resolveAuditFlag(Long flagId, String actor) {
-        AuditFlag flag = auditFlagRepository.findById(flagId)
+        AuditFlag flag = auditFlagRepository.findByIdForUpdate(flagId)
                 .orElseThrow(() -> new ResourceNotFoundException("Audit flag not found: " + flagId));
+        if (Boolean.TRUE.equals(flag.getResolved())) {
+            return flag;
+        }
 
+        Long vendorId = flag.getVendor().getId();
+        vendorComplianceStateService.ensureInitialized(List.of(vendorId));
         flag.setResolved(true);
         flag.setResolvedAt(LocalDateTime.now());
         AuditFlag savedFlag = auditFlagRepository.save(flag);
+        vendorComplianceStateService.adjustUnresolvedFlags(List.of(vendorId), -1);
 
-        // Recalculate risk when audit flag is resolved
-        riskService.recalculateRiskForVendor(flag.getVendor().getId(), actor);
+        // Recalculate risk once the resolution commits
+        eventPublisher.publishEvent(new VendorRiskInputsChangedEvent(vendorId, actor));
 
         return savedFlag;
     }
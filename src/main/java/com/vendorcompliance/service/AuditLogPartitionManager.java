@@ -0,0 +1,168 @@
+package com.vendorcompliance.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates and drops the monthly partitions of {@code audit_logs} set up by the V6 migration. PostgreSQL
+ * partitions are named {@code audit_logs_pYYYYMM}; MySQL splits {@code pYYYYMM} off the catch-all
+ * {@code p_future} partition. Other databases, or an unpartitioned table, are left alone.
+ */
+@Component
+public class AuditLogPartitionManager {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AuditLogPartitionManager.class);
+
+    private static final DateTimeFormatter MONTH_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final Pattern POSTGRES_MONTHLY_PARTITION = Pattern.compile("audit_logs_p(\\d{6})");
+    private static final String MYSQL_FUTURE_PARTITION = "p_future";
+
+    private static final String POSTGRES_PARTITIONS_SQL = "SELECT c.relname FROM pg_inherits i"
+            + " JOIN pg_class c ON c.oid = i.inhrelid WHERE i.inhparent = 'audit_logs'::regclass";
+
+    private static final String POSTGRES_CREATE_SQL = "CREATE TABLE IF NOT EXISTS audit_logs_p%s"
+            + " PARTITION OF audit_logs FOR VALUES FROM ('%s') TO ('%s')";
+
+    private static final String POSTGRES_DROP_SQL = "DROP TABLE %s";
+
+    private static final String MYSQL_PARTITIONS_SQL = "SELECT PARTITION_NAME, PARTITION_DESCRIPTION"
+            + " FROM information_schema.PARTITIONS"
+            + " WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'audit_logs' AND PARTITION_NAME IS NOT NULL";
+
+    private static final String MYSQL_SPLIT_SQL = "ALTER TABLE audit_logs REORGANIZE PARTITION p_future INTO"
+            + " (PARTITION p%s VALUES LESS THAN ('%s'), PARTITION p_future VALUES LESS THAN (MAXVALUE))";
+
+    private static final String MYSQL_DROP_SQL = "ALTER TABLE audit_logs DROP PARTITION %s";
+
+    private enum Dialect {
+        POSTGRESQL,
+        MYSQL,
+        UNSUPPORTED
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Dialect dialect;
+
+    public AuditLogPartitionManager(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Makes sure a partition exists for every month from the current one through {@code lastMonth}.
+     */
+    public void ensurePartitions(YearMonth lastMonth) {
+        Dialect current = dialect();
+        Map<String, LocalDate> partitions = listPartitions(current);
+        if (partitions.isEmpty()) {
+            return;
+        }
+
+        YearMonth month = YearMonth.now();
+        if (current == Dialect.MYSQL) {
+            if (!partitions.containsKey(MYSQL_FUTURE_PARTITION)) {
+                return;
+            }
+            // Ranges must stay contiguous, so splitting resumes at the highest existing bound
+            LocalDate highestBound = partitions.values().stream()
+                    .filter(Objects::nonNull)
+                    .max(LocalDate::compareTo)
+                    .orElse(month.atDay(1));
+            month = YearMonth.from(highestBound);
+        }
+
+        for (; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            String suffix = month.format(MONTH_SUFFIX);
+            String sql = current == Dialect.POSTGRESQL
+                    ? String.format(POSTGRES_CREATE_SQL, suffix, month.atDay(1), month.plusMonths(1).atDay(1))
+                    : String.format(MYSQL_SPLIT_SQL, suffix, month.plusMonths(1).atDay(1));
+            try {
+                jdbcTemplate.execute(sql);
+            } catch (DataAccessException ex) {
+                // PostgreSQL refuses a month whose rows already sit in audit_logs_default
+                LOGGER.warn("Could not create audit_logs partition for {}: {}", month, ex.getMessage());
+                return;
+            }
+        }
+    }
+
+    /**
+     * Drops every partition that only holds entries from before {@code firstKeptMonth} and returns how many
+     * were dropped.
+     */
+    public int dropPartitionsBefore(YearMonth firstKeptMonth) {
+        Dialect current = dialect();
+        LocalDate cutoff = firstKeptMonth.atDay(1);
+        int dropped = 0;
+        for (Map.Entry<String, LocalDate> partition : listPartitions(current).entrySet()) {
+            LocalDate upperBound = partition.getValue();
+            if (upperBound == null || upperBound.isAfter(cutoff)) {
+                continue;
+            }
+            jdbcTemplate.execute(String.format(
+                    current == Dialect.POSTGRESQL ? POSTGRES_DROP_SQL : MYSQL_DROP_SQL, partition.getKey()));
+            LOGGER.info("Dropped audit_logs partition {} (entries before {})", partition.getKey(), upperBound);
+            dropped++;
+        }
+        return dropped;
+    }
+
+    /**
+     * Partition name to exclusive upper bound; catch-all partitions map to null.
+     */
+    private Map<String, LocalDate> listPartitions(Dialect current) {
+        Map<String, LocalDate> partitions = new LinkedHashMap<>();
+        if (current == Dialect.POSTGRESQL) {
+            for (String name : jdbcTemplate.queryForList(POSTGRES_PARTITIONS_SQL, String.class)) {
+                Matcher matcher = POSTGRES_MONTHLY_PARTITION.matcher(name);
+                partitions.put(name, matcher.matches()
+                        ? YearMonth.parse(matcher.group(1), MONTH_SUFFIX).plusMonths(1).atDay(1)
+                        : null);
+            }
+        } else if (current == Dialect.MYSQL) {
+            RowCallbackHandler collector = rs -> {
+                String description = rs.getString(2);
+                // Bounds read back as quoted literals such as '2026-11-01 00:00:00'
+                partitions.put(rs.getString(1), description == null || description.startsWith("MAXVALUE")
+                        ? null
+                        : LocalDate.parse(description.replace("'", "").substring(0, 10)));
+            };
+            jdbcTemplate.query(MYSQL_PARTITIONS_SQL, collector);
+        } else {
+            return Collections.emptyMap();
+        }
+        return partitions;
+    }
+
+    private Dialect dialect() {
+        if (dialect == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            String normalized = product == null ? "" : product.toLowerCase(Locale.ROOT);
+            if (normalized.contains("postgres")) {
+                dialect = Dialect.POSTGRESQL;
+            } else if (normalized.contains("mysql") || normalized.contains("mariadb")) {
+                dialect = Dialect.MYSQL;
+            } else {
+                LOGGER.info("audit_logs partition maintenance is not supported on {}", product);
+                dialect = Dialect.UNSUPPORTED;
+            }
+        }
+        return dialect;
+    }
+}
@@ -0,0 +1,279 @@
+package com.vendorcompliance.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.vendorcompliance.entity.AuditLog;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Buffers audit entries per transaction and hands them to a background flusher once the transaction
+ * commits, so callers never pay for the insert round trip. Entries from rolled-back transactions are
+ * discarded, matching the old behaviour of saving them inside the caller's transaction.
+ * <p>
+ * Durability: with {@code app.audit.async.enabled=false} every entry is inserted synchronously in the
+ * caller's transaction, or in a transaction of its own when the caller's is read-only. In async mode entries
+ * still queued when the JVM dies are lost; a graceful shutdown drains the queue first.
+ * <p>
+ * Backpressure: when the queue is full the committing thread waits up to {@code enqueue-timeout-ms} and
+ * then writes the entries itself, so entries are never dropped because of load.
+ * <p>
+ * Failures: a batch the flusher cannot insert is retried with exponential backoff while newer entries wait
+ * in the queue. After {@code max-attempts} failed attempts its entries are inserted one at a time, and any
+ * entry that still fails is logged in full at ERROR and dropped, so one bad entry cannot stall the queue.
+ * An outage longer than the backoff (about 12 s with the defaults) therefore ends up in the log, not the table.
+ * <p>
+ * Metrics: {@code compliance.audit.write} times each batch insert, tagged by who wrote it ({@code sync},
+ * {@code flusher} or the {@code caller} after a full queue); {@code compliance.audit.queue.size} is the backlog
+ * and {@code compliance.audit.write.dropped} counts entries given up on.
+ */
+@Component
+public class AuditLogWriter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AuditLogWriter.class);
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate joiningTransaction;
+    private final TransactionTemplate newTransaction;
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary batchSizes;
+    private final Counter droppedEntries;
+
+    @Value("${app.audit.async.enabled:true}")
+    private boolean asyncEnabled;
+
+    @Value("${app.audit.async.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${app.audit.async.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.audit.async.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    @Value("${app.audit.async.enqueue-timeout-ms:50}")
+    private long enqueueTimeoutMs;
+
+    @Value("${app.audit.async.max-attempts:5}")
+    private int maxAttempts;
+
+    private BlockingQueue<AuditLog> queue;
+    private ScheduledExecutorService flusher;
+    private List<AuditLog> failedBatch = List.of();
+    private int failedAttempts;
+    private long retryAtNanos;
+
+    public AuditLogWriter(
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.entityManager = entityManager;
+        this.meterRegistry = meterRegistry;
+        this.batchSizes = DistributionSummary.builder("compliance.audit.write.batch.size")
+                .description("Audit entries per insert batch")
+                .register(meterRegistry);
+        this.droppedEntries = Counter.builder("compliance.audit.write.dropped")
+                .description("Audit entries logged and discarded because they could not be inserted")
+                .register(meterRegistry);
+        this.joiningTransaction = new TransactionTemplate(transactionManager);
+        // Queued entries are also written from afterCompletion callbacks, where only a new transaction is safe
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!asyncEnabled) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        Gauge.builder("compliance.audit.queue.size", queue, BlockingQueue::size)
+                .description("Committed audit entries waiting for the background flusher")
+                .register(meterRegistry);
+        flusher = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("audit-writer-"));
+        flusher.scheduleWithFixedDelay(() -> flushQueued(false), flushIntervalMs, flushIntervalMs,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (flusher == null) {
+            return;
+        }
+        flusher.shutdown();
+        if (!flusher.awaitTermination(10, TimeUnit.SECONDS)) {
+            LOGGER.warn("Audit writer did not stop in time; draining remaining entries on shutdown thread");
+        }
+        flushQueued(true);
+    }
+
+    public void write(AuditLog log) {
+        if (!asyncEnabled) {
+            // A read-only transaction may be running on the replica, and rejects writes on the primary too
+            boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+            insertBatch(List.of(log), readOnly ? newTransaction : joiningTransaction, "sync");
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            transactionBuffer().add(log);
+        } else {
+            enqueue(List.of(log));
+        }
+    }
+
+    private List<AuditLog> transactionBuffer() {
+        @SuppressWarnings("unchecked")
+        List<AuditLog> buffer = (List<AuditLog>) TransactionSynchronizationManager.getResource(this);
+        if (buffer != null) {
+            return buffer;
+        }
+
+        List<AuditLog> newBuffer = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, newBuffer);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void suspend() {
+                TransactionSynchronizationManager.unbindResource(AuditLogWriter.this);
+            }
+
+            @Override
+            public void resume() {
+                TransactionSynchronizationManager.bindResource(AuditLogWriter.this, newBuffer);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(AuditLogWriter.this);
+                if (status == STATUS_COMMITTED && !newBuffer.isEmpty()) {
+                    enqueue(newBuffer);
+                }
+            }
+        });
+        return newBuffer;
+    }
+
+    private void enqueue(List<AuditLog> logs) {
+        for (int i = 0; i < logs.size(); i++) {
+            boolean accepted;
+            try {
+                accepted = queue.offer(logs.get(i), enqueueTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                accepted = false;
+            }
+            if (!accepted) {
+                LOGGER.warn("Audit queue full; writing {} entries on the calling thread", logs.size() - i);
+                insertBatch(logs.subList(i, logs.size()), newTransaction, "caller");
+                return;
+            }
+        }
+    }
+
+    private synchronized void flushQueued(boolean shuttingDown) {
+        try {
+            if (!failedBatch.isEmpty()) {
+                if (!shuttingDown && System.nanoTime() < retryAtNanos) {
+                    return;
+                }
+                retryFailedBatch(shuttingDown);
+            }
+            List<AuditLog> batch = new ArrayList<>(batchSize);
+            while (queue.drainTo(batch, batchSize) > 0) {
+                try {
+                    insertBatch(batch, newTransaction, "flusher");
+                } catch (RuntimeException ex) {
+                    failedBatch = List.copyOf(batch);
+                    failedAttempts = 1;
+                    scheduleRetry();
+                    throw ex;
+                }
+                batch.clear();
+            }
+        } catch (RuntimeException ex) {
+            LOGGER.error("Failed to write {} audit log entries (attempt {} of {})",
+                    failedBatch.size(), failedAttempts, maxAttempts, ex);
+        }
+    }
+
+    private void retryFailedBatch(boolean shuttingDown) {
+        if (failedAttempts < maxAttempts && !shuttingDown) {
+            try {
+                insertBatch(failedBatch, newTransaction, "flusher");
+                failedBatch = List.of();
+                failedAttempts = 0;
+                return;
+            } catch (RuntimeException ex) {
+                failedAttempts++;
+                scheduleRetry();
+                throw ex;
+            }
+        }
+
+        // Out of attempts: isolate the entries that cannot be written instead of blocking everything behind them
+        List<AuditLog> logs = failedBatch;
+        failedBatch = List.of();
+        failedAttempts = 0;
+        for (AuditLog log : logs) {
+            try {
+                insertBatch(List.of(log), newTransaction, "flusher");
+            } catch (RuntimeException ex) {
+                droppedEntries.increment();
+                LOGGER.error("Dropping audit entry that could not be written: action={}, actor={}, vendorId={}, "
+                                + "createdAt={}, details={}", log.getAction(), log.getActorUsername(),
+                        log.getVendorId(), log.getCreatedAt(), log.getDetails(), ex);
+            }
+        }
+    }
+
+    private void scheduleRetry() {
+        long delayMs = flushIntervalMs << Math.min(failedAttempts, 8);
+        retryAtNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMs);
+    }
+
+    private void insertBatch(List<AuditLog> logs, TransactionTemplate transaction, String writer) {
+        // Ids come from the pooled sequence, so hibernate.jdbc.batch_size turns the flush into batched INSERTs
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            transaction.executeWithoutResult(status -> {
+                logs.forEach(entityManager::persist);
+                entityManager.flush();
+                logs.forEach(entityManager::detach);
+            });
+        } catch (RuntimeException ex) {
+            // Ids assigned before the rollback would make a retry look like detached entities
+            logs.forEach(log -> log.setId(null));
+            outcome = "failure";
+            throw ex;
+        } finally {
+            sample.stop(meterRegistry.timer("compliance.audit.write", "writer", writer, "outcome", outcome));
+            batchSizes.record(logs.size());
+        }
+    }
+}
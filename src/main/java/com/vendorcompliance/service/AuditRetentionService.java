@@ -0,0 +1,201 @@
+package com.vendorcompliance.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.vendorcompliance.entity.AuditAction;
+import com.vendorcompliance.entity.AuditLog;
+import com.vendorcompliance.repository.AuditLogRepository;
+
+/**
+ * Nightly audit log upkeep: keeps monthly {@code audit_logs} partitions created ahead of time, drops the ones
+ * past the retention period (if one is configured) and rolls per-vendor {@code RISK_SCORE_CALCULATED} entries
+ * older than the detail window into one {@code RISK_SCORE_DAILY_SUMMARY} entry per vendor and day.
+ */
+@Service
+public class AuditRetentionService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AuditRetentionService.class);
+
+    public static final String RETENTION_JOB = "audit-retention";
+
+    private static final String SYSTEM_ACTOR = "SYSTEM";
+
+    // The nightly bulk rescoring summary has no vendor and is kept as is
+    private static final String OLDEST_RISK_EVENT_SQL = "SELECT MIN(created_at) FROM audit_logs"
+            + " WHERE action = ? AND vendor_id IS NOT NULL AND created_at >= ? AND created_at < ?";
+
+    private static final String DAILY_SUMMARY_SQL = "SELECT vendor_id, calculations, details, created_at FROM ("
+            + "SELECT vendor_id, details, created_at, COUNT(*) OVER (PARTITION BY vendor_id) AS calculations,"
+            + " ROW_NUMBER() OVER (PARTITION BY vendor_id ORDER BY created_at DESC, id DESC) AS rn"
+            + " FROM audit_logs WHERE action = ? AND vendor_id IS NOT NULL AND created_at >= ? AND created_at < ?"
+            + ") e WHERE rn = 1 ORDER BY vendor_id";
+
+    private static final String DELETE_DAY_SQL = "DELETE FROM audit_logs"
+            + " WHERE action = ? AND created_at >= ? AND created_at < ? AND vendor_id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AuditLogRepository auditLogRepository;
+    private final AuditLogPartitionManager auditLogPartitionManager;
+    private final JobLockService jobLockService;
+
+    @Value("${app.audit.partitions.months-ahead:3}")
+    private int partitionMonthsAhead;
+
+    @Value("${app.audit.retention.months:0}")
+    private int retentionMonths;
+
+    @Value("${app.audit.retention.risk-detail-days:30}")
+    private int riskDetailDays;
+
+    @Value("${app.audit.retention.chunk-size:1000}")
+    private int chunkSize;
+
+    public AuditRetentionService(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            AuditLogRepository auditLogRepository,
+            AuditLogPartitionManager auditLogPartitionManager,
+            JobLockService jobLockService
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.auditLogRepository = auditLogRepository;
+        this.auditLogPartitionManager = auditLogPartitionManager;
+        this.jobLockService = jobLockService;
+    }
+
+    /**
+     * Creates the current month's partition right away after a deploy instead of waiting for the nightly run.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensurePartitionsOnStartup() {
+        if (!jobLockService.tryAcquire(RETENTION_JOB)) {
+            return;
+        }
+        boolean succeeded = false;
+        try {
+            auditLogPartitionManager.ensurePartitions(YearMonth.now().plusMonths(partitionMonthsAhead));
+            succeeded = true;
+        } finally {
+            jobLockService.release(RETENTION_JOB, succeeded);
+        }
+    }
+
+    @Scheduled(cron = "${app.audit.retention.cron:0 30 4 * * ?}")
+    public void nightlyRetention() {
+        if (!jobLockService.tryAcquire(RETENTION_JOB)) {
+            LOGGER.info("Skipping job {}: lock held by another instance", RETENTION_JOB);
+            return;
+        }
+
+        boolean succeeded = false;
+        try {
+            auditLogPartitionManager.ensurePartitions(YearMonth.now().plusMonths(partitionMonthsAhead));
+            if (retentionMonths > 0) {
+                auditLogPartitionManager.dropPartitionsBefore(YearMonth.now().minusMonths(retentionMonths));
+            }
+            if (riskDetailDays > 0) {
+                long compacted = compactRiskEvents(LocalDate.now().minusDays(riskDetailDays));
+                LOGGER.info("Compacted {} risk calculation entries into daily summaries", compacted);
+            }
+            succeeded = true;
+        } finally {
+            jobLockService.release(RETENTION_JOB, succeeded);
+        }
+    }
+
+    private long compactRiskEvents(LocalDate cutoff) {
+        long compacted = 0;
+        LocalDate day = findOldestRiskEventDay(LocalDate.EPOCH, cutoff);
+        while (day != null) {
+            long entries = compactDay(day);
+            jobLockService.recordPartitionCompleted(RETENTION_JOB, entries);
+            compacted += entries;
+            day = findOldestRiskEventDay(day.plusDays(1), cutoff);
+        }
+        return compacted;
+    }
+
+    private LocalDate findOldestRiskEventDay(LocalDate from, LocalDate cutoff) {
+        Timestamp oldest = jdbcTemplate.queryForObject(OLDEST_RISK_EVENT_SQL, Timestamp.class,
+                AuditAction.RISK_SCORE_CALCULATED.name(),
+                Timestamp.valueOf(from.atStartOfDay()), Timestamp.valueOf(cutoff.atStartOfDay()));
+        return oldest != null ? oldest.toLocalDateTime().toLocalDate() : null;
+    }
+
+    /**
+     * Replaces the day's entries of each vendor with one summary carrying the count and the last result.
+     * Chunks commit on their own; a rerun only finds the vendors whose entries were not replaced yet.
+     */
+    private long compactDay(LocalDate day) {
+        Timestamp from = Timestamp.valueOf(day.atStartOfDay());
+        Timestamp to = Timestamp.valueOf(day.plusDays(1).atStartOfDay());
+        List<DailyRiskSummary> summaries = jdbcTemplate.query(DAILY_SUMMARY_SQL,
+                (rs, rowNum) -> new DailyRiskSummary(rs.getLong(1), rs.getInt(2), rs.getString(3),
+                        rs.getTimestamp(4).toLocalDateTime()),
+                AuditAction.RISK_SCORE_CALCULATED.name(), from, to);
+
+        long compacted = 0;
+        for (int start = 0; start < summaries.size(); start += chunkSize) {
+            List<DailyRiskSummary> chunk = summaries.subList(start, Math.min(summaries.size(), start + chunkSize));
+            transactionTemplate.executeWithoutResult(status -> replaceWithSummaries(day, chunk, from, to));
+            compacted += chunk.stream().mapToLong(summary -> summary.calculations).sum();
+        }
+        return compacted;
+    }
+
+    private void replaceWithSummaries(LocalDate day, List<DailyRiskSummary> chunk, Timestamp from, Timestamp to) {
+        List<Object> args = new ArrayList<>(chunk.size() + 3);
+        args.add(AuditAction.RISK_SCORE_CALCULATED.name());
+        args.add(from);
+        args.add(to);
+        chunk.forEach(summary -> args.add(summary.vendorId));
+        jdbcTemplate.update(String.format(DELETE_DAY_SQL, String.join(", ", Collections.nCopies(chunk.size(), "?"))),
+                args.toArray());
+
+        List<AuditLog> logs = new ArrayList<>(chunk.size());
+        for (DailyRiskSummary summary : chunk) {
+            AuditLog log = new AuditLog();
+            log.setAction(AuditAction.RISK_SCORE_DAILY_SUMMARY);
+            log.setActorUsername(SYSTEM_ACTOR);
+            log.setVendorId(summary.vendorId);
+            log.setDetails("Risk calculations on " + day + ": count=" + summary.calculations
+                    + "; last: " + summary.lastDetails);
+            // Stays within the day, so keyset pages and date filters see the summary where the entries were
+            log.setCreatedAt(summary.lastCreatedAt);
+            logs.add(log);
+        }
+        auditLogRepository.saveAll(logs);
+    }
+
+    private static final class DailyRiskSummary {
+        private final long vendorId;
+        private final int calculations;
+        private final String lastDetails;
+        private final LocalDateTime lastCreatedAt;
+
+        private DailyRiskSummary(long vendorId, int calculations, String lastDetails, LocalDateTime lastCreatedAt) {
+            this.vendorId = vendorId;
+            this.calculations = calculations;
+            this.lastDetails = lastDetails;
+            this.lastCreatedAt = lastCreatedAt;
+        }
+    }
+}
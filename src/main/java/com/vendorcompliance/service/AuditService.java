@@ -1,82 +1,113 @@
 package com.vendorcompliance.service;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.vendorcompliance.dto.AuditLogResponse;
+import com.vendorcompliance.dto.CursorPageResponse;
+import com.vendorcompliance.dto.VendorDocumentResponse;
 import com.vendorcompliance.entity.AuditAction;
 import com.vendorcompliance.entity.AuditLog;
 import com.vendorcompliance.entity.DocumentType;
+import com.vendorcompliance.exception.BadRequestException;
+import com.vendorcompliance.repository.AuditLogFilter;
 import com.vendorcompliance.repository.AuditLogRepository;
 
+import jakarta.persistence.EntityManager;
+
 @Service
 public class AuditService {
 
-    private final AuditLogRepository auditLogRepository;
+    private static final int MAX_DETAILS_LENGTH = 1000;
 
-    public AuditService(AuditLogRepository auditLogRepository) {
+    private final AuditLogRepository auditLogRepository;
+    private final AuditLogWriter auditLogWriter;
+    private final EntityManager entityManager;
+    private final PageSizePolicy pageSizePolicy;
+
+    public AuditService(
+            AuditLogRepository auditLogRepository,
+            AuditLogWriter auditLogWriter,
+            EntityManager entityManager,
+            PageSizePolicy pageSizePolicy
+    ) {
         this.auditLogRepository = auditLogRepository;
+        this.auditLogWriter = auditLogWriter;
+        this.entityManager = entityManager;
+        this.pageSizePolicy = pageSizePolicy;
     }
 
-    @Transactional
     public void log(AuditAction action, String actorUsername, Long vendorId, String details) {
         AuditLog log = new AuditLog();
         log.setAction(action);
         log.setActorUsername(actorUsername);
         log.setVendorId(vendorId);
-        log.setDetails(details);
-        auditLogRepository.save(log);
+        log.setDetails(details == null ? null : truncate(details));
+        log.setCreatedAt(LocalDateTime.now());
+        auditLogWriter.write(log);
     }
 
-    @Transactional
     public void log(AuditAction action, String actorUsername, String details) {
-        AuditLog log = new AuditLog();
-        log.setAction(action);
-        log.setActorUsername(actorUsername);
-        log.setDetails(details);
-        auditLogRepository.save(log);
+        log(action, actorUsername, null, details);
     }
 
     @Transactional(readOnly = true)
-    public List<AuditLogResponse> getLogs(Long vendorId, AuditAction action) {
-        List<AuditLog> logs;
-        if (vendorId != null && action != null) {
-            logs = auditLogRepository.findByVendorIdAndActionOrderByCreatedAtDesc(vendorId, action);
-        } else if (vendorId != null) {
-            logs = auditLogRepository.findByVendorIdOrderByCreatedAtDesc(vendorId);
-        } else if (action != null) {
-            logs = auditLogRepository.findByActionOrderByCreatedAtDesc(action);
-        } else {
-            logs = auditLogRepository.findAllByOrderByCreatedAtDesc();
+    public CursorPageResponse<AuditLogResponse> getLogs(AuditLogFilter filter, String cursor, Integer size) {
+        validateRange(filter);
+        int pageSize = pageSizePolicy.resolve(size);
+        KeysetCursor after = cursor == null || cursor.isBlank() ? null : KeysetCursor.decode(cursor);
+
+        // Fetch one extra row to learn whether another page exists without a count query
+        List<AuditLog> logs = auditLogRepository.findPage(
+                filter,
+                after != null ? after.getTimestamp() : null,
+                after != null ? after.getId() : null,
+                pageSize + 1
+        );
+
+        String nextCursor = null;
+        if (logs.size() > pageSize) {
+            logs = logs.subList(0, pageSize);
+            AuditLog last = logs.get(pageSize - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPageResponse<>(logs.stream().map(this::toResponse).toList(), nextCursor, pageSize);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamLogs(AuditLogFilter filter, Consumer<AuditLogResponse> consumer) {
+        validateRange(filter);
+        try (Stream<AuditLog> logs = auditLogRepository.stream(filter)) {
+            logs.forEach(log -> {
+                consumer.accept(toResponse(log));
+                entityManager.detach(log);
+            });
         }
-        return logs.stream().map(this::toResponse).toList();
     }
 
-    @Transactional
     public void logVendorOnboardingSubmitted(String actorUsername, Long vendorId) {
         log(AuditAction.VENDOR_ONBOARD_SUBMITTED, actorUsername, vendorId,
                 "Vendor onboarding submitted with status PENDING");
     }
 
-    @Transactional
     public void logLogin(String actorUsername) {
         log(AuditAction.LOGIN, actorUsername, "User successfully authenticated");
     }
 
-    @Transactional
     public void logVendorApproved(String actorUsername, Long vendorId, String comments) {
         log(AuditAction.VENDOR_APPROVED, actorUsername, vendorId, comments);
     }
 
-    @Transactional
     public void logVendorRejected(String actorUsername, Long vendorId, String comments) {
         log(AuditAction.VENDOR_REJECTED, actorUsername, vendorId, comments);
     }
 
-    @Transactional
     public void logDocumentUploaded(
             String actorUsername,
             Long vendorId,
@@ -90,7 +121,16 @@ public class AuditService {
         log(AuditAction.DOCUMENT_UPLOADED, actorUsername, vendorId, details);
     }
 
-    @Transactional
+    public void logDocumentsUploaded(String actorUsername, Long vendorId, List<VendorDocumentResponse> documents) {
+        StringBuilder details = new StringBuilder("Documents uploaded: count=").append(documents.size());
+        for (VendorDocumentResponse document : documents) {
+            details.append("; type=").append(document.getType())
+                    .append(", fileName=").append(document.getFileName())
+                    .append(", expiryDate=").append(document.getExpiryDate());
+        }
+        log(AuditAction.DOCUMENT_UPLOADED, actorUsername, vendorId, details.toString());
+    }
+
     public void logRiskScoreCalculated(
             String actorUsername,
             Long vendorId,
@@ -104,7 +144,20 @@ public class AuditService {
         log(AuditAction.RISK_SCORE_CALCULATED, actorUsername, vendorId, details);
     }
 
-    private AuditLogResponse toResponse(AuditLog log) {
+    private static String truncate(String details) {
+        return details.length() <= MAX_DETAILS_LENGTH ? details : details.substring(0, MAX_DETAILS_LENGTH - 3) + "...";
+    }
+
+    /**
+     * Rejects an invalid filter; exports call this before the response is committed so the client gets a 400.
+     */
+    public void validateRange(AuditLogFilter filter) {
+        if (filter.getFrom() != null && filter.getTo() != null && !filter.getFrom().isBefore(filter.getTo())) {
+            throw new BadRequestException("'from' must be before 'to'");
+        }
+    }
+
+    AuditLogResponse toResponse(AuditLog log) {
         AuditLogResponse response = new AuditLogResponse();
         response.setId(log.getId());
         response.setAction(log.getAction().name());
@@ -1,6 +1,5 @@
 package com.vendorcompliance.service;
 
-import java.util.Date;
 import java.util.Set;
 
 import org.springframework.security.authentication.AuthenticationManager;
@@ -20,6 +19,9 @@ import com.vendorcompliance.exception.BadRequestException;
 import com.vendorcompliance.repository.UserRepository;
 import com.vendorcompliance.security.CustomUserDetailsService;
 import com.vendorcompliance.security.JwtUtil;
+import com.vendorcompliance.security.UserAuthStateCache;
+
+import io.jsonwebtoken.Claims;
 
 @Service
 public class AuthService {
@@ -30,6 +32,7 @@ public class AuthService {
     private final JwtUtil jwtUtil;
     private final CustomUserDetailsService userDetailsService;
     private final AuditService auditService;
+    private final UserAuthStateCache userAuthStateCache;
 
     public AuthService(
             AuthenticationManager authenticationManager,
@@ -37,7 +40,8 @@ public class AuthService {
             PasswordEncoder passwordEncoder,
             JwtUtil jwtUtil,
             CustomUserDetailsService userDetailsService,
-            AuditService auditService
+            AuditService auditService,
+            UserAuthStateCache userAuthStateCache
     ) {
         this.authenticationManager = authenticationManager;
         this.userRepository = userRepository;
@@ -45,6 +49,7 @@ public class AuthService {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
         this.auditService = auditService;
+        this.userAuthStateCache = userAuthStateCache;
     }
 
     @Transactional
@@ -65,6 +70,7 @@ public class AuthService {
         appUser.setEnabled(true);
 
         userRepository.save(appUser);
+        userAuthStateCache.invalidate(appUser.getUsername());
 
         UserDetails userDetails = userDetailsService.loadUserByUsername(appUser.getUsername());
         String token = jwtUtil.generateToken(userDetails);
@@ -87,14 +93,12 @@ public class AuthService {
     @Transactional(readOnly = true)
     public AuthResponse refreshToken(String authorizationHeader) {
         String token = jwtUtil.resolveToken(authorizationHeader);
-        if (token == null || !jwtUtil.isTokenValid(token)) {
-            throw new BadRequestException("Invalid bearer token");
-        }
-        if (jwtUtil.extractExpiration(token).before(new Date())) {
-            throw new BadRequestException("Token already expired");
+        Claims claims = token == null ? null : jwtUtil.parseClaims(token);
+        if (claims == null) {
+            throw new BadRequestException("Invalid or expired bearer token");
         }
 
-        String username = jwtUtil.extractUsername(token);
+        String username = claims.getSubject();
         AppUser appUser = userDetailsService.getDomainUser(username);
         UserDetails userDetails = userDetailsService.loadUserByUsername(username);
         String newToken = jwtUtil.generateToken(userDetails);
@@ -0,0 +1,113 @@
+package com.vendorcompliance.service;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.vendorcompliance.entity.DocumentType;
+
+/**
+ * Rescores vendors set-based: per chunk of vendor ids it runs one aggregate query over
+ * {@code vendor_compliance_state} and a single batched UPDATE, applying the same formula as
+ * {@link RiskService#recalculateRiskForVendor}. Each chunk commits on its own, so ranges can be
+ * processed in parallel by {@link PartitionedJobRunner}.
+ */
+@Service
+public class BulkRiskScoringService {
+
+    private static final String VENDOR_IDS_SQL = "SELECT id FROM vendors WHERE id BETWEEN ? AND ?";
+
+    // Vendors without state rows have no documents and no flags, which the defaults below reflect
+    private static final String COMPLIANCE_STATS_SQL = "SELECT vendor_id,"
+            + " COUNT(latest_document_id) AS present_count,"
+            + " SUM(CASE WHEN expiry_date < ? THEN 1 ELSE 0 END) AS expired_count,"
+            + " MAX(unresolved_flags) AS unresolved_flags"
+            + " FROM vendor_compliance_state WHERE vendor_id BETWEEN ? AND ? AND document_type IN (%s)"
+            + " GROUP BY vendor_id";
+
+    private static final String UPDATE_SCORE_SQL = "UPDATE vendors"
+            + " SET risk_score = ?, risk_breakdown = ?, last_risk_calculated_at = ?, updated_at = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final VendorService vendorService;
+    private final String complianceStatsSql;
+    private final List<String> requiredTypeNames;
+
+    @Value("${app.risk.bulk.chunk-size:2000}")
+    private int chunkSize;
+
+    public BulkRiskScoringService(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            VendorService vendorService
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.vendorService = vendorService;
+        this.requiredTypeNames = RiskService.requiredDocumentTypes().stream().map(DocumentType::name).toList();
+        this.complianceStatsSql = String.format(COMPLIANCE_STATS_SQL,
+                String.join(", ", Collections.nCopies(requiredTypeNames.size(), "?")));
+    }
+
+    public int rescoreRange(long fromVendorId, long toVendorId) {
+        int rescored = 0;
+        for (long chunkStart = fromVendorId; chunkStart <= toVendorId; chunkStart += chunkSize) {
+            long chunkEnd = Math.min(toVendorId, chunkStart + chunkSize - 1);
+            long start = chunkStart;
+            Integer chunkCount = transactionTemplate.execute(status -> rescoreChunk(start, chunkEnd));
+            rescored += chunkCount != null ? chunkCount : 0;
+        }
+        return rescored;
+    }
+
+    private int rescoreChunk(long fromVendorId, long toVendorId) {
+        List<Long> vendorIds = jdbcTemplate.queryForList(VENDOR_IDS_SQL, Long.class, fromVendorId, toVendorId);
+        if (vendorIds.isEmpty()) {
+            return 0;
+        }
+
+        LocalDate today = LocalDate.now();
+        Map<Long, int[]> complianceStats = loadComplianceStats(fromVendorId, toVendorId, today);
+
+        int requiredCount = requiredTypeNames.size();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> updates = new ArrayList<>(vendorIds.size());
+        for (Long vendorId : vendorIds) {
+            int[] stats = complianceStats.getOrDefault(vendorId, new int[3]);
+            int missingCount = requiredCount - stats[0];
+            int riskScore = RiskService.computeRiskScore(missingCount, stats[1], stats[2]);
+            String breakdown = RiskService.describeBreakdown(missingCount, stats[1], stats[2]);
+            updates.add(new Object[]{riskScore, breakdown, now, now, vendorId});
+        }
+        jdbcTemplate.batchUpdate(UPDATE_SCORE_SQL, updates);
+        vendorService.evictCached(vendorIds);
+        return vendorIds.size();
+    }
+
+    private Map<Long, int[]> loadComplianceStats(long fromVendorId, long toVendorId, LocalDate today) {
+        List<Object> args = new ArrayList<>(requiredTypeNames.size() + 3);
+        args.add(Date.valueOf(today));
+        args.add(fromVendorId);
+        args.add(toVendorId);
+        args.addAll(requiredTypeNames);
+
+        Map<Long, int[]> stats = new HashMap<>();
+        RowCallbackHandler collector = rs -> stats.put(rs.getLong(1),
+                new int[]{rs.getInt(2), rs.getInt(3), rs.getInt(4)});
+        jdbcTemplate.query(complianceStatsSql, collector, args.toArray());
+        return stats;
+    }
+}
@@ -0,0 +1,147 @@
+package com.vendorcompliance.service;
+
+import com.vendorcompliance.dto.VendorOnboardingRequest;
+import com.vendorcompliance.exception.BadRequestException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * RFC 4180 CSV with a header row naming the {@link VendorOnboardingRequest} fields in any order. Quoted fields
+ * may contain commas, doubled quotes and line breaks; unknown columns are ignored.
+ */
+class CsvVendorImportReader implements VendorImportReader {
+
+    private static final Map<String, BiConsumer<VendorOnboardingRequest, String>> COLUMNS = Map.of(
+            "legalname", VendorOnboardingRequest::setLegalName,
+            "tradingname", VendorOnboardingRequest::setTradingName,
+            "registrationnumber", VendorOnboardingRequest::setRegistrationNumber,
+            "email", VendorOnboardingRequest::setEmail,
+            "phone", VendorOnboardingRequest::setPhone,
+            "address", VendorOnboardingRequest::setAddress,
+            "onboardingnotes", VendorOnboardingRequest::setOnboardingNotes
+    );
+
+    private final Reader reader;
+    private final List<BiConsumer<VendorOnboardingRequest, String>> columnSetters = new ArrayList<>();
+    private long lineNumber = 1;
+    private int pushedBack = -2;
+
+    CsvVendorImportReader(Reader reader) throws IOException {
+        this.reader = reader;
+        readHeader();
+    }
+
+    @Override
+    public VendorImportRow next() throws IOException {
+        List<String> fields;
+        long recordLine;
+        do {
+            recordLine = lineNumber;
+            fields = readRecord();
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isBlank());
+
+        if (fields.size() != columnSetters.size()) {
+            return VendorImportRow.failed(recordLine,
+                    "Expected " + columnSetters.size() + " columns but found " + fields.size());
+        }
+        VendorOnboardingRequest request = new VendorOnboardingRequest();
+        for (int i = 0; i < fields.size(); i++) {
+            BiConsumer<VendorOnboardingRequest, String> setter = columnSetters.get(i);
+            String value = fields.get(i).trim();
+            if (setter != null && !value.isEmpty()) {
+                setter.accept(request, value);
+            }
+        }
+        return VendorImportRow.parsed(recordLine, request);
+    }
+
+    private void readHeader() throws IOException {
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new BadRequestException("CSV import is empty");
+        }
+        Map<String, Integer> seen = new HashMap<>();
+        for (String column : header) {
+            String key = column.replace("\uFEFF", "").trim().replace("_", "").toLowerCase(Locale.ROOT);
+            if (seen.put(key, columnSetters.size()) != null && COLUMNS.containsKey(key)) {
+                throw new BadRequestException("Duplicate CSV column: " + column.trim());
+            }
+            columnSetters.add(COLUMNS.get(key));
+        }
+        if (!seen.containsKey("registrationnumber") || !seen.containsKey("legalname")) {
+            throw new BadRequestException("CSV header must include legalName and registrationNumber");
+        }
+    }
+
+    private List<String> readRecord() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new BadRequestException("Unterminated quoted field starting before line " + lineNumber);
+                }
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = following;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int following = read();
+                    if (following != '\n') {
+                        pushedBack = following;
+                    }
+                }
+                if (c != -1) {
+                    lineNumber++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != -2) {
+            int c = pushedBack;
+            pushedBack = -2;
+            return c;
+        }
+        return reader.read();
+    }
+}
@@ -0,0 +1,38 @@
+package com.vendorcompliance.service;
+
+public class DocumentDownload {
+
+    private final String fileName;
+    private final String mimeType;
+    private final long sizeBytes;
+    private final String sha256;
+    private final String storageKey;
+
+    public DocumentDownload(String fileName, String mimeType, long sizeBytes, String sha256, String storageKey) {
+        this.fileName = fileName;
+        this.mimeType = mimeType;
+        this.sizeBytes = sizeBytes;
+        this.sha256 = sha256;
+        this.storageKey = storageKey;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public String getMimeType() {
+        return mimeType;
+    }
+
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public String getSha256() {
+        return sha256;
+    }
+
+    public String getStorageKey() {
+        return storageKey;
+    }
+}
@@ -0,0 +1,172 @@
+package com.vendorcompliance.service;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.vendorcompliance.dto.ScheduledJobStateResponse;
+import com.vendorcompliance.entity.ScheduledJobState;
+import com.vendorcompliance.repository.ScheduledJobStateRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Cluster-wide job lock and progress tracking backed by the {@code scheduled_job_state} table. Every
+ * statement runs in autocommit so the conditional UPDATE alone decides which replica wins the lock. Lock
+ * expiry is computed and compared with the database clock, so clock skew between replicas cannot make one
+ * steal a live lock or keep an expired one.
+ * Publishes {@code compliance.job.duration}, {@code compliance.job.items} and {@code compliance.job.skipped}
+ * tagged with the job name, for every job that goes through the lock.
+ */
+@Service
+public class JobLockService {
+
+    private static final String INSERT_SQL = "INSERT INTO scheduled_job_state"
+            + " (name, partitions_total, partitions_completed, items_processed) VALUES (?, 0, 0, 0)";
+
+    // %s is the dialect's "LOCALTIMESTAMP plus ? seconds" expression
+    private static final String ACQUIRE_SQL = "UPDATE scheduled_job_state"
+            + " SET locked_until = %s, locked_by = ?, last_started_at = LOCALTIMESTAMP, last_status = 'RUNNING',"
+            + " partitions_total = 0, partitions_completed = 0, items_processed = 0"
+            + " WHERE name = ? AND (locked_until IS NULL OR locked_until <= LOCALTIMESTAMP)";
+    private static final String POSTGRES_EXPIRY = "LOCALTIMESTAMP + ? * INTERVAL '1 second'";
+    private static final String MYSQL_EXPIRY = "LOCALTIMESTAMP + INTERVAL ? SECOND";
+
+    private static final String PLAN_SQL = "UPDATE scheduled_job_state SET partitions_total = ?"
+            + " WHERE name = ? AND locked_by = ?";
+
+    private static final String PROGRESS_SQL = "UPDATE scheduled_job_state"
+            + " SET partitions_completed = partitions_completed + 1, items_processed = items_processed + ?"
+            + " WHERE name = ? AND locked_by = ?";
+
+    private static final String RELEASE_SQL = "UPDATE scheduled_job_state"
+            + " SET locked_until = LOCALTIMESTAMP, last_finished_at = LOCALTIMESTAMP, last_status = ?"
+            + " WHERE name = ? AND locked_by = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ScheduledJobStateRepository scheduledJobStateRepository;
+    private final String instanceId;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Long> startedAtNanos = new ConcurrentHashMap<>();
+    private volatile String acquireSql;
+
+    @Value("${app.jobs.lock.max-duration:PT4H}")
+    private Duration maxLockDuration;
+
+    public JobLockService(
+            JdbcTemplate jdbcTemplate,
+            ScheduledJobStateRepository scheduledJobStateRepository,
+            MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.scheduledJobStateRepository = scheduledJobStateRepository;
+        this.meterRegistry = meterRegistry;
+        this.instanceId = resolveInstanceId();
+    }
+
+    public boolean tryAcquire(String jobName) {
+        ensureRow(jobName);
+        int updated = jdbcTemplate.update(acquireSql(), maxLockDuration.toSeconds(), instanceId, jobName);
+        if (updated != 1) {
+            Counter.builder("compliance.job.skipped").tag("job", jobName)
+                    .description("Runs skipped because another instance held the job lock")
+                    .register(meterRegistry).increment();
+            return false;
+        }
+        startedAtNanos.put(jobName, System.nanoTime());
+        return true;
+    }
+
+    public void recordPlan(String jobName, int partitionsTotal) {
+        jdbcTemplate.update(PLAN_SQL, partitionsTotal, jobName, instanceId);
+    }
+
+    public void recordPartitionCompleted(String jobName, long itemsProcessed) {
+        jdbcTemplate.update(PROGRESS_SQL, itemsProcessed, jobName, instanceId);
+        Counter.builder("compliance.job.items").tag("job", jobName)
+                .description("Items processed by completed job partitions")
+                .register(meterRegistry).increment(itemsProcessed);
+    }
+
+    public void release(String jobName, boolean succeeded) {
+        jdbcTemplate.update(RELEASE_SQL, succeeded ? "COMPLETED" : "FAILED", jobName, instanceId);
+        Long startedAt = startedAtNanos.remove(jobName);
+        if (startedAt != null) {
+            Timer.builder("compliance.job.duration")
+                    .tag("job", jobName)
+                    .tag("status", succeeded ? "completed" : "failed")
+                    .register(meterRegistry).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<ScheduledJobStateResponse> listJobStates() {
+        LocalDateTime databaseNow = jdbcTemplate.queryForObject("SELECT LOCALTIMESTAMP", LocalDateTime.class);
+        return scheduledJobStateRepository.findAllByOrderByNameAsc().stream()
+                .map(state -> toResponse(state, databaseNow))
+                .toList();
+    }
+
+    private String acquireSql() {
+        if (acquireSql == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            String normalized = product == null ? "" : product.toLowerCase(Locale.ROOT);
+            boolean mysql = normalized.contains("mysql") || normalized.contains("mariadb");
+            acquireSql = String.format(ACQUIRE_SQL, mysql ? MYSQL_EXPIRY : POSTGRES_EXPIRY);
+        }
+        return acquireSql;
+    }
+
+    private void ensureRow(String jobName) {
+        if (scheduledJobStateRepository.existsById(jobName)) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_SQL, jobName);
+        } catch (DataIntegrityViolationException ex) {
+            // Another replica created the row first
+        }
+    }
+
+    private ScheduledJobStateResponse toResponse(ScheduledJobState state, LocalDateTime databaseNow) {
+        ScheduledJobStateResponse response = new ScheduledJobStateResponse();
+        response.setName(state.getName());
+        response.setRunning(state.getLockedUntil() != null && state.getLockedUntil().isAfter(databaseNow));
+        response.setLockedBy(state.getLockedBy());
+        response.setLockedUntil(state.getLockedUntil());
+        response.setLastStartedAt(state.getLastStartedAt());
+        response.setLastFinishedAt(state.getLastFinishedAt());
+        response.setLastStatus(state.getLastStatus());
+        response.setPartitionsTotal(state.getPartitionsTotal());
+        response.setPartitionsCompleted(state.getPartitionsCompleted());
+        response.setItemsProcessed(state.getItemsProcessed());
+        return response;
+    }
+
+    private static String resolveInstanceId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException ex) {
+            host = "unknown-host";
+        }
+        return host + ":" + ManagementFactory.getRuntimeMXBean().getPid();
+    }
+}
@@ -0,0 +1,54 @@
+package com.vendorcompliance.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.vendorcompliance.exception.BadRequestException;
+
+/**
+ * Opaque position in a {@code (timestamp DESC, id DESC)} ordered listing.
+ * Encoded as URL-safe Base64 so clients treat it as a token rather than a query they can edit.
+ */
+public final class KeysetCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime timestamp;
+    private final Long id;
+
+    public KeysetCursor(LocalDateTime timestamp, Long id) {
+        this.timestamp = timestamp;
+        this.id = id;
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = decoded.lastIndexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new BadRequestException("Invalid page cursor");
+            }
+            return new KeysetCursor(
+                    LocalDateTime.parse(decoded.substring(0, separatorIndex)),
+                    Long.valueOf(decoded.substring(separatorIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new BadRequestException("Invalid page cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = timestamp + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
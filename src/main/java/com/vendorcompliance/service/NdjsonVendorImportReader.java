@@ -0,0 +1,38 @@
+package com.vendorcompliance.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vendorcompliance.dto.VendorOnboardingRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+class NdjsonVendorImportReader implements VendorImportReader {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private long lineNumber;
+
+    NdjsonVendorImportReader(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public VendorImportRow next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        try {
+            return VendorImportRow.parsed(lineNumber, objectMapper.readValue(line, VendorOnboardingRequest.class));
+        } catch (JsonProcessingException ex) {
+            return VendorImportRow.failed(lineNumber, "Malformed JSON: " + ex.getOriginalMessage());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.vendorcompliance.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.vendorcompliance.exception.BadRequestException;
+
+/**
+ * Page size bounds shared by every keyset-paginated listing.
+ */
+@Component
+public class PageSizePolicy {
+
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public PageSizePolicy(
+            @Value("${app.pagination.default-size:50}") int defaultPageSize,
+            @Value("${app.pagination.max-size:500}") int maxPageSize
+    ) {
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    public int resolve(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        if (size < 1 || size > maxPageSize) {
+            throw new BadRequestException("Page size must be between 1 and " + maxPageSize);
+        }
+        return size;
+    }
+}
@@ -0,0 +1,119 @@
+package com.vendorcompliance.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Splits the vendor id space into fixed-size ranges and runs a job's work for each range in parallel,
+ * guarded by the cluster-wide lock in {@link JobLockService} so only one replica runs a given job.
+ * Tasks are expected to open their own transactions, one per partition or smaller.
+ */
+@Component
+public class PartitionedJobRunner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PartitionedJobRunner.class);
+
+    private static final String VENDOR_ID_RANGE_SQL = "SELECT MIN(id), MAX(id) FROM vendors";
+
+    @FunctionalInterface
+    public interface VendorRangeTask {
+        /**
+         * Processes vendors with ids in {@code [fromVendorId, toVendorId]} and returns how many items it handled.
+         */
+        long run(long fromVendorId, long toVendorId);
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JobLockService jobLockService;
+
+    @Value("${app.jobs.partition.workers:4}")
+    private int workerCount;
+
+    @Value("${app.jobs.partition.size:50000}")
+    private long partitionSize;
+
+    private ThreadPoolTaskExecutor workers;
+
+    public PartitionedJobRunner(JdbcTemplate jdbcTemplate, JobLockService jobLockService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jobLockService = jobLockService;
+    }
+
+    @PostConstruct
+    public void start() {
+        workers = new ThreadPoolTaskExecutor();
+        workers.setCorePoolSize(workerCount);
+        workers.setMaxPoolSize(workerCount);
+        workers.setThreadNamePrefix("compliance-job-");
+        workers.setWaitForTasksToCompleteOnShutdown(true);
+        workers.setAwaitTerminationSeconds(30);
+        workers.initialize();
+    }
+
+    @PreDestroy
+    public void stop() {
+        workers.shutdown();
+    }
+
+    /**
+     * Returns the total number of items processed, or -1 when another instance holds the job lock.
+     */
+    public long run(String jobName, VendorRangeTask task) {
+        if (!jobLockService.tryAcquire(jobName)) {
+            LOGGER.info("Skipping job {}: lock held by another instance", jobName);
+            return -1;
+        }
+
+        boolean succeeded = false;
+        long startedAt = System.currentTimeMillis();
+        AtomicLong itemsProcessed = new AtomicLong();
+        try {
+            List<long[]> partitions = planPartitions();
+            jobLockService.recordPlan(jobName, partitions.size());
+
+            List<CompletableFuture<Void>> futures = new ArrayList<>(partitions.size());
+            for (long[] partition : partitions) {
+                futures.add(CompletableFuture.runAsync(() -> {
+                    long processed = task.run(partition[0], partition[1]);
+                    itemsProcessed.addAndGet(processed);
+                    jobLockService.recordPartitionCompleted(jobName, processed);
+                }, workers));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+            succeeded = true;
+        } catch (RuntimeException ex) {
+            LOGGER.error("Job {} failed", jobName, ex);
+        } finally {
+            jobLockService.release(jobName, succeeded);
+        }
+
+        LOGGER.info("Job {} finished: succeeded={}, items={}, durationMs={}",
+                jobName, succeeded, itemsProcessed.get(), System.currentTimeMillis() - startedAt);
+        return itemsProcessed.get();
+    }
+
+    private List<long[]> planPartitions() {
+        Long[] range = jdbcTemplate.queryForObject(VENDOR_ID_RANGE_SQL,
+                (rs, rowNum) -> new Long[]{rs.getObject(1, Long.class), rs.getObject(2, Long.class)});
+        List<long[]> partitions = new ArrayList<>();
+        if (range == null || range[0] == null) {
+            return partitions;
+        }
+        for (long from = range[0]; from <= range[1]; from += partitionSize) {
+            partitions.add(new long[]{from, Math.min(range[1], from + partitionSize - 1)});
+        }
+        return partitions;
+    }
+}
@@ -0,0 +1,105 @@
+package com.vendorcompliance.service;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.vendorcompliance.exception.ResourceNotFoundException;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Coalesces risk recalculation requests per vendor. Changes only mark a vendor dirty after their
+ * transaction commits; every debounce window each dirty vendor is recalculated once on the worker pool,
+ * however many uploads or flag changes happened in between.
+ */
+@Component
+public class RiskRecalculationQueue {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RiskRecalculationQueue.class);
+
+    private final RiskService riskService;
+    private final Map<Long, String> dirtyVendors = new ConcurrentHashMap<>();
+    private final Set<Long> inFlightVendors = ConcurrentHashMap.newKeySet();
+
+    @Value("${app.risk.recompute.workers:4}")
+    private int workerCount;
+
+    @Value("${app.risk.recompute.queue-capacity:1000}")
+    private int queueCapacity;
+
+    private ThreadPoolTaskExecutor workers;
+
+    public RiskRecalculationQueue(RiskService riskService) {
+        this.riskService = riskService;
+    }
+
+    @PostConstruct
+    public void start() {
+        workers = new ThreadPoolTaskExecutor();
+        workers.setCorePoolSize(workerCount);
+        workers.setMaxPoolSize(workerCount);
+        workers.setQueueCapacity(queueCapacity);
+        workers.setThreadNamePrefix("risk-recompute-");
+        workers.setWaitForTasksToCompleteOnShutdown(true);
+        workers.setAwaitTerminationSeconds(20);
+        workers.initialize();
+    }
+
+    @PreDestroy
+    public void stop() {
+        workers.shutdown();
+        if (!dirtyVendors.isEmpty()) {
+            LOGGER.warn("Shutting down with {} vendors awaiting risk recalculation", dirtyVendors.size());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRiskInputsChanged(VendorRiskInputsChangedEvent event) {
+        dirtyVendors.put(event.getVendorId(), event.getActor());
+    }
+
+    @Scheduled(fixedDelayString = "${app.risk.recompute.debounce-ms:2000}")
+    public void dispatchDirtyVendors() {
+        for (Long vendorId : dirtyVendors.keySet()) {
+            // A vendor still being recalculated stays dirty and is picked up in the next window
+            if (!inFlightVendors.add(vendorId)) {
+                continue;
+            }
+            String actor = dirtyVendors.remove(vendorId);
+            if (actor == null) {
+                inFlightVendors.remove(vendorId);
+                continue;
+            }
+            try {
+                workers.execute(() -> recalculate(vendorId, actor));
+            } catch (TaskRejectedException ex) {
+                dirtyVendors.putIfAbsent(vendorId, actor);
+                inFlightVendors.remove(vendorId);
+                return;
+            }
+        }
+    }
+
+    private void recalculate(Long vendorId, String actor) {
+        try {
+            riskService.recalculateRiskForVendor(vendorId, actor);
+        } catch (ResourceNotFoundException ex) {
+            LOGGER.debug("Skipping risk recalculation for deleted vendor {}", vendorId);
+        } catch (RuntimeException ex) {
+            LOGGER.error("Risk recalculation failed for vendor {}", vendorId, ex);
+        } finally {
+            inFlightVendors.remove(vendorId);
+        }
+    }
+}
@@ -8,14 +8,20 @@ import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.vendorcompliance.config.CacheConfig;
 import com.vendorcompliance.dto.RiskScoreResponse;
 import com.vendorcompliance.entity.DocumentType;
-import com.vendorcompliance.entity.VendorDocument;
-import com.vendorcompliance.repository.AuditFlagRepository;
+import com.vendorcompliance.entity.VendorComplianceState;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
 @Service
 public class RiskService {
@@ -24,51 +30,80 @@ public class RiskService {
     private static final int MISSING_DOC_WEIGHT = 20;
     private static final int EXPIRED_DOC_WEIGHT = 30;
     private static final int AUDIT_FLAG_WEIGHT = 25;
+    private static final String RISK_SCORE_CACHE_KEY =
+            "T(com.vendorcompliance.service.RiskService).riskScoreCacheKey(#vendorId)";
 
     private final VendorService vendorService;
-    private final VendorDocumentService vendorDocumentService;
+    private final VendorComplianceStateService vendorComplianceStateService;
     private final AuditService auditService;
-    private final AuditFlagRepository auditFlagRepository;
+    private final Timer changedScoreTimer;
+    private final Timer unchangedScoreTimer;
 
     public RiskService(
             VendorService vendorService,
-            VendorDocumentService vendorDocumentService,
+            VendorComplianceStateService vendorComplianceStateService,
             AuditService auditService,
-            AuditFlagRepository auditFlagRepository
+            MeterRegistry meterRegistry
     ) {
         this.vendorService = vendorService;
-        this.vendorDocumentService = vendorDocumentService;
+        this.vendorComplianceStateService = vendorComplianceStateService;
         this.auditService = auditService;
-        this.auditFlagRepository = auditFlagRepository;
+        // Cache hits never get here; they show up in cache.gets{cache=riskScores,result=hit}
+        this.changedScoreTimer = riskCalculationTimer(meterRegistry, "changed");
+        this.unchangedScoreTimer = riskCalculationTimer(meterRegistry, "unchanged");
+    }
+
+    /**
+     * Returns today's evaluation from the cache when none of its inputs changed since it was computed;
+     * document and flag changes evict it through {@link VendorComplianceStateService}, and the date in the
+     * key retires it when expiries roll over. Only a miss recalculates, persists and audits the score.
+     */
+    @Cacheable(cacheNames = CacheConfig.RISK_SCORES_CACHE, key = RISK_SCORE_CACHE_KEY)
+    @Transactional
+    public RiskScoreResponse getRiskScore(Long vendorId, String actor) {
+        return calculateRiskScore(vendorId, actor);
     }
 
+    @CachePut(cacheNames = CacheConfig.RISK_SCORES_CACHE, key = RISK_SCORE_CACHE_KEY)
     @Transactional
-    public RiskScoreResponse calculateRiskScore(Long vendorId, String actor) {
-        vendorService.findVendorOrThrow(vendorId);
+    public RiskScoreResponse recalculateRiskForVendor(Long vendorId, String actor) {
+        return calculateRiskScore(vendorId, actor);
+    }
+
+    public static String riskScoreCacheKey(Long vendorId) {
+        return vendorId + ":" + LocalDate.now();
+    }
 
-        List<VendorDocument> documents = vendorDocumentService.listVendorDocumentsForRisk(vendorId);
-        Map<DocumentType, VendorDocument> latestByType = mapLatestDocuments(documents);
+    private RiskScoreResponse calculateRiskScore(Long vendorId, String actor) {
+        long startedAt = System.nanoTime();
+        // No rows yet means the vendor has neither documents nor audit flags
+        List<VendorComplianceState> states = vendorComplianceStateService.findForVendor(vendorId);
+        Map<DocumentType, LocalDate> latestExpiryByType = mapLatestExpiries(states);
 
         List<DocumentType> missingDocuments = new ArrayList<>();
         List<DocumentType> expiredDocuments = new ArrayList<>();
         LocalDate today = LocalDate.now();
 
         for (DocumentType requiredType : REQUIRED_DOCUMENTS) {
-            VendorDocument latest = latestByType.get(requiredType);
-            if (latest == null) {
+            LocalDate latestExpiry = latestExpiryByType.get(requiredType);
+            if (latestExpiry == null) {
                 missingDocuments.add(requiredType);
-            } else if (latest.getExpiryDate().isBefore(today)) {
+            } else if (latestExpiry.isBefore(today)) {
                 expiredDocuments.add(requiredType);
             }
         }
 
-        long unresolvedAuditFlags = auditFlagRepository.countByVendorIdAndResolvedFalse(vendorId);
+        long unresolvedAuditFlags = states.isEmpty() ? 0 : states.get(0).getUnresolvedFlags();
 
-        int riskScore = Math.min(100, (int) (missingDocuments.size() * MISSING_DOC_WEIGHT
-                + expiredDocuments.size() * EXPIRED_DOC_WEIGHT
-                + unresolvedAuditFlags * AUDIT_FLAG_WEIGHT));
-        vendorService.updateRiskScore(vendorId, riskScore);
-        auditService.logRiskScoreCalculated(actor, vendorId, riskScore, missingDocuments.size(), expiredDocuments.size());
+        int riskScore = computeRiskScore(missingDocuments.size(), expiredDocuments.size(), unresolvedAuditFlags);
+        String breakdown = describeBreakdown(missingDocuments.size(), expiredDocuments.size(), unresolvedAuditFlags);
+        // An unknown vendor fails here, before anything is written; unchanged results are not audited again
+        boolean changed = vendorService.updateRiskScore(vendorId, riskScore, breakdown);
+        if (changed) {
+            auditService.logRiskScoreCalculated(actor, vendorId, riskScore, missingDocuments.size(),
+                    expiredDocuments.size());
+        }
+        (changed ? changedScoreTimer : unchangedScoreTimer).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
 
         RiskScoreResponse response = new RiskScoreResponse();
         response.setVendorId(vendorId);
@@ -80,17 +115,35 @@ public class RiskService {
         return response;
     }
 
-    @Transactional
-    public void recalculateRiskForVendor(Long vendorId, String actor) {
-        calculateRiskScore(vendorId, actor);
+    static int computeRiskScore(int missingDocuments, int expiredDocuments, long unresolvedAuditFlags) {
+        return (int) Math.min(100, missingDocuments * MISSING_DOC_WEIGHT
+                + expiredDocuments * EXPIRED_DOC_WEIGHT
+                + unresolvedAuditFlags * AUDIT_FLAG_WEIGHT);
+    }
+
+    static String describeBreakdown(int missingDocuments, int expiredDocuments, long unresolvedAuditFlags) {
+        return "missing=" + missingDocuments + ",expired=" + expiredDocuments + ",flags=" + unresolvedAuditFlags;
+    }
+
+    static Set<DocumentType> requiredDocumentTypes() {
+        return REQUIRED_DOCUMENTS;
+    }
+
+    private static Timer riskCalculationTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("compliance.risk.calculation")
+                .description("Risk score calculations, by whether the stored score changed")
+                .tag("result", result)
+                .register(meterRegistry);
     }
 
-    private Map<DocumentType, VendorDocument> mapLatestDocuments(List<VendorDocument> documents) {
-        Map<DocumentType, VendorDocument> latestByType = new EnumMap<>(DocumentType.class);
-        for (VendorDocument document : documents) {
-            latestByType.putIfAbsent(document.getType(), document);
+    private Map<DocumentType, LocalDate> mapLatestExpiries(List<VendorComplianceState> states) {
+        Map<DocumentType, LocalDate> latestExpiryByType = new EnumMap<>(DocumentType.class);
+        for (VendorComplianceState state : states) {
+            if (state.getLatestDocumentId() != null) {
+                latestExpiryByType.put(state.getDocumentType(), state.getExpiryDate());
+            }
         }
-        return latestByType;
+        return latestExpiryByType;
     }
 
     private String toRiskLevel(int score) {
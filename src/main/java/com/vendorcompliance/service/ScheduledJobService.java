@@ -1,106 +1,232 @@
 package com.vendorcompliance.service;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.vendorcompliance.dto.ScheduledJobStateResponse;
+import com.vendorcompliance.entity.AuditAction;
 import com.vendorcompliance.entity.AuditFlag;
-import com.vendorcompliance.entity.Vendor;
-import com.vendorcompliance.entity.VendorDocument;
+import com.vendorcompliance.entity.DocumentType;
+import com.vendorcompliance.exception.BadRequestException;
 import com.vendorcompliance.repository.AuditFlagRepository;
-import com.vendorcompliance.repository.VendorDocumentRepository;
+import com.vendorcompliance.repository.ExpiredDocumentTypeView;
+import com.vendorcompliance.repository.VendorComplianceStateRepository;
 import com.vendorcompliance.repository.VendorRepository;
+import com.vendorcompliance.repository.VendorRiskView;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Service
 public class ScheduledJobService {
 
     private static final String SYSTEM_ACTOR = "SYSTEM";
+    private static final String EXPIRED_FLAG_PREFIX = "Expired documents";
+    private static final String HIGH_RISK_FLAG_PREFIX = "Vendor risk score exceeded threshold";
     private static final Integer HIGH_RISK_THRESHOLD = 60;
 
-    private final VendorDocumentRepository vendorDocumentRepository;
+    private static final String PORTFOLIO_RESCORE_JOB = "portfolio-rescore";
+    private static final String EXPIRED_DOCUMENT_CHECK_JOB = "expired-document-check";
+    private static final String HIGH_RISK_CHECK_JOB = "high-risk-vendor-check";
+
+    private final VendorComplianceStateRepository vendorComplianceStateRepository;
     private final VendorRepository vendorRepository;
     private final AuditFlagRepository auditFlagRepository;
-    private final RiskService riskService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BulkRiskScoringService bulkRiskScoringService;
+    private final TransactionTemplate transactionTemplate;
+    private final PartitionedJobRunner partitionedJobRunner;
+    private final JobLockService jobLockService;
+    private final AuditService auditService;
+    private final VendorComplianceStateService vendorComplianceStateService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.jobs.chunk-size:500}")
+    private int chunkSize;
 
     public ScheduledJobService(
-            VendorDocumentRepository vendorDocumentRepository,
+            VendorComplianceStateRepository vendorComplianceStateRepository,
             VendorRepository vendorRepository,
             AuditFlagRepository auditFlagRepository,
-            RiskService riskService
+            ApplicationEventPublisher eventPublisher,
+            BulkRiskScoringService bulkRiskScoringService,
+            TransactionTemplate transactionTemplate,
+            PartitionedJobRunner partitionedJobRunner,
+            JobLockService jobLockService,
+            AuditService auditService,
+            VendorComplianceStateService vendorComplianceStateService,
+            MeterRegistry meterRegistry
     ) {
-        this.vendorDocumentRepository = vendorDocumentRepository;
+        this.vendorComplianceStateRepository = vendorComplianceStateRepository;
         this.vendorRepository = vendorRepository;
         this.auditFlagRepository = auditFlagRepository;
-        this.riskService = riskService;
+        this.eventPublisher = eventPublisher;
+        this.bulkRiskScoringService = bulkRiskScoringService;
+        this.transactionTemplate = transactionTemplate;
+        this.partitionedJobRunner = partitionedJobRunner;
+        this.jobLockService = jobLockService;
+        this.auditService = auditService;
+        this.vendorComplianceStateService = vendorComplianceStateService;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Scheduled(cron = "${app.risk.bulk.cron:0 0 1 * * ?}")
+    public void nightlyPortfolioRescore() {
+        long startedAt = System.currentTimeMillis();
+        long rescored = partitionedJobRunner.run(PORTFOLIO_RESCORE_JOB, bulkRiskScoringService::rescoreRange);
+        if (rescored >= 0) {
+            meterRegistry.counter("compliance.job.vendors.scanned", "job", PORTFOLIO_RESCORE_JOB).increment(rescored);
+            auditService.log(AuditAction.RISK_SCORE_CALCULATED, SYSTEM_ACTOR, "Bulk risk rescoring: vendors="
+                    + rescored + ", durationMs=" + (System.currentTimeMillis() - startedAt));
+        }
     }
 
     @Scheduled(cron = "0 0 2 * * ?")
-    @Transactional
     public void dailyExpiredDocumentCheck() {
         LocalDate today = LocalDate.now();
-        List<VendorDocument> expiredDocuments = vendorDocumentRepository.findExpiredDocuments(today);
-
-        if (!expiredDocuments.isEmpty()) {
-            Set<Long> vendorIdsWithExpiredDocs = expiredDocuments.stream()
-                    .map(doc -> doc.getVendor().getId())
-                    .collect(Collectors.toSet());
-
-            for (Long vendorId : vendorIdsWithExpiredDocs) {
-                List<VendorDocument> vendorExpiredDocs = expiredDocuments.stream()
-                        .filter(doc -> doc.getVendor().getId().equals(vendorId))
-                        .toList();
-
-                String docTypes = vendorExpiredDocs.stream()
-                        .map(doc -> doc.getType().name())
-                        .distinct()
-                        .collect(Collectors.joining(", "));
-
-                String flagDescription = "Expired documents detected: " + docTypes;
-
-                // Check if flag already exists for this vendor
-                boolean flagAlreadyExists = auditFlagRepository.findByVendorIdAndResolvedFalse(vendorId).stream()
-                        .anyMatch(flag -> flag.getDescription().startsWith("Expired documents"));
-
-                if (!flagAlreadyExists) {
-                    Vendor vendor = vendorRepository.findById(vendorId).orElse(null);
-                    if (vendor != null) {
-                        AuditFlag flag = new AuditFlag();
-                        flag.setVendor(vendor);
-                        flag.setDescription(flagDescription);
-                        flag.setResolved(false);
-                        auditFlagRepository.save(flag);
-
-                        // Recalculate risk
-                        riskService.recalculateRiskForVendor(vendorId, SYSTEM_ACTOR);
-                    }
-                }
-            }
-        }
+        // Each chunk commits on its own; a rerun after a crash skips vendors that already carry the flag
+        partitionedJobRunner.run(EXPIRED_DOCUMENT_CHECK_JOB, (fromVendorId, toVendorId) ->
+                processInChunks(EXPIRED_DOCUMENT_CHECK_JOB, fromVendorId, toVendorId,
+                        (afterVendorId, maxVendorId) -> processExpiredDocumentChunk(today, afterVendorId, maxVendorId)));
     }
 
     @Scheduled(cron = "0 0 3 * * ?")
-    @Transactional
     public void dailyHighRiskVendorCheck() {
-        List<Vendor> highRiskVendors = vendorRepository.findByRiskScoreGreaterThanEqual(HIGH_RISK_THRESHOLD);
-
-        for (Vendor vendor : highRiskVendors) {
-            // Check if alert flag already exists
-            boolean flagAlreadyExists = auditFlagRepository.findByVendorIdAndResolvedFalse(vendor.getId()).stream()
-                    .anyMatch(flag -> flag.getDescription().contains("High risk"));
-
-            if (!flagAlreadyExists) {
-                String flagDescription = "Vendor risk score exceeded threshold: " + vendor.getRiskScore() + "/100";
-                AuditFlag flag = new AuditFlag();
-                flag.setVendor(vendor);
-                flag.setDescription(flagDescription);
-                flag.setResolved(false);
-                auditFlagRepository.save(flag);
+        partitionedJobRunner.run(HIGH_RISK_CHECK_JOB, (fromVendorId, toVendorId) ->
+                processInChunks(HIGH_RISK_CHECK_JOB, fromVendorId, toVendorId, this::processHighRiskChunk));
+    }
+
+    public List<ScheduledJobStateResponse> listJobStates() {
+        return jobLockService.listJobStates();
+    }
+
+    public ScheduledJobStateResponse rebuildComplianceState() {
+        if (vendorComplianceStateService.rebuild() < 0) {
+            throw new BadRequestException("Job " + VendorComplianceStateService.REBUILD_JOB + " is already running");
+        }
+        return jobLockService.listJobStates().stream()
+                .filter(state -> VendorComplianceStateService.REBUILD_JOB.equals(state.getName()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private long processInChunks(String jobName, long fromVendorId, long toVendorId, ChunkProcessor processor) {
+        long afterVendorId = fromVendorId - 1;
+        long flagsCreated = 0;
+        while (true) {
+            long chunkAfter = afterVendorId;
+            ChunkResult result = transactionTemplate.execute(status -> processor.process(chunkAfter, toVendorId));
+            if (result == null || result.lastVendorId == null) {
+                return flagsCreated;
+            }
+            flagsCreated += result.flagsCreated;
+            meterRegistry.counter("compliance.job.vendors.scanned", "job", jobName).increment(result.vendorsScanned);
+            meterRegistry.counter("compliance.job.flags.created", "job", jobName).increment(result.flagsCreated);
+            afterVendorId = result.lastVendorId;
+        }
+    }
+
+    private ChunkResult processExpiredDocumentChunk(LocalDate today, long afterVendorId, long maxVendorId) {
+        List<Long> vendorIds = vendorComplianceStateRepository.findVendorIdsWithExpiredDocuments(
+                today, afterVendorId, maxVendorId, PageRequest.of(0, chunkSize));
+        if (vendorIds.isEmpty()) {
+            return new ChunkResult(null, 0, 0);
+        }
+
+        Set<Long> alreadyFlagged = new HashSet<>(
+                auditFlagRepository.findVendorIdsWithUnresolvedFlag(vendorIds, EXPIRED_FLAG_PREFIX));
+        Map<Long, Set<DocumentType>> expiredTypesByVendor = new LinkedHashMap<>();
+        for (ExpiredDocumentTypeView view : vendorComplianceStateRepository.findExpiredDocumentTypes(vendorIds, today)) {
+            if (!alreadyFlagged.contains(view.getVendorId())) {
+                expiredTypesByVendor
+                        .computeIfAbsent(view.getVendorId(), id -> EnumSet.noneOf(DocumentType.class))
+                        .add(view.getType());
             }
         }
+
+        List<AuditFlag> flags = new ArrayList<>(expiredTypesByVendor.size());
+        expiredTypesByVendor.forEach((vendorId, types) -> {
+            AuditFlag flag = new AuditFlag();
+            flag.setVendor(vendorRepository.getReferenceById(vendorId));
+            flag.setDescription(EXPIRED_FLAG_PREFIX + " detected: " + types.stream()
+                    .map(DocumentType::name)
+                    .collect(Collectors.joining(", ")));
+            flag.setResolved(false);
+            flags.add(flag);
+        });
+        auditFlagRepository.saveAll(flags);
+        vendorComplianceStateService.adjustUnresolvedFlags(expiredTypesByVendor.keySet(), 1);
+
+        // Risk is recalculated asynchronously once this chunk commits
+        expiredTypesByVendor.keySet().forEach(vendorId ->
+                eventPublisher.publishEvent(new VendorRiskInputsChangedEvent(vendorId, SYSTEM_ACTOR)));
+
+        return new ChunkResult(vendorIds.get(vendorIds.size() - 1), vendorIds.size(), flags.size());
+    }
+
+    private ChunkResult processHighRiskChunk(long afterVendorId, long maxVendorId) {
+        List<VendorRiskView> vendors = vendorRepository.findRiskScoresAtLeast(
+                HIGH_RISK_THRESHOLD, afterVendorId, maxVendorId, PageRequest.of(0, chunkSize));
+        if (vendors.isEmpty()) {
+            return new ChunkResult(null, 0, 0);
+        }
+
+        List<Long> vendorIds = vendors.stream().map(VendorRiskView::getVendorId).toList();
+        Set<Long> alreadyFlagged = new HashSet<>(
+                auditFlagRepository.findVendorIdsWithUnresolvedFlag(vendorIds, HIGH_RISK_FLAG_PREFIX));
+
+        List<VendorRiskView> toFlag = vendors.stream()
+                .filter(vendor -> !alreadyFlagged.contains(vendor.getVendorId()))
+                .toList();
+        List<Long> flaggedVendorIds = toFlag.stream().map(VendorRiskView::getVendorId).toList();
+        // High-risk vendors are often the ones without documents, so they may not have state rows yet
+        vendorComplianceStateService.ensureInitialized(flaggedVendorIds);
+
+        List<AuditFlag> flags = new ArrayList<>(toFlag.size());
+        for (VendorRiskView vendor : toFlag) {
+            AuditFlag flag = new AuditFlag();
+            flag.setVendor(vendorRepository.getReferenceById(vendor.getVendorId()));
+            flag.setDescription(HIGH_RISK_FLAG_PREFIX + ": " + vendor.getRiskScore() + "/100");
+            flag.setResolved(false);
+            flags.add(flag);
+        }
+        auditFlagRepository.saveAll(flags);
+        vendorComplianceStateService.adjustUnresolvedFlags(flaggedVendorIds, 1);
+
+        // The new flags count towards the score, so it is recalculated once this chunk commits as well
+        flaggedVendorIds.forEach(vendorId ->
+                eventPublisher.publishEvent(new VendorRiskInputsChangedEvent(vendorId, SYSTEM_ACTOR)));
+
+        return new ChunkResult(vendorIds.get(vendorIds.size() - 1), vendorIds.size(), flags.size());
+    }
+
+    @FunctionalInterface
+    private interface ChunkProcessor {
+        ChunkResult process(long afterVendorId, long maxVendorId);
+    }
+
+    private static final class ChunkResult {
+        private final Long lastVendorId;
+        private final int vendorsScanned;
+        private final int flagsCreated;
+
+        private ChunkResult(Long lastVendorId, int vendorsScanned, int flagsCreated) {
+            this.lastVendorId = lastVendorId;
+            this.vendorsScanned = vendorsScanned;
+            this.flagsCreated = flagsCreated;
+        }
     }
 }
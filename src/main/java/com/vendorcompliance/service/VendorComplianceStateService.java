@@ -0,0 +1,208 @@
+package com.vendorcompliance.service;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.vendorcompliance.config.CacheConfig;
+import com.vendorcompliance.entity.DocumentType;
+import com.vendorcompliance.entity.VendorComplianceState;
+import com.vendorcompliance.entity.VendorDocument;
+import com.vendorcompliance.repository.VendorComplianceStateRepository;
+
+/**
+ * Maintains {@code vendor_compliance_state} incrementally from document uploads and audit flag changes, so
+ * risk scoring and expiry scans read a handful of rows per vendor instead of the full document history.
+ * Rows for a vendor are created on its first document or flag; {@link #rebuild()} recomputes everything
+ * from the source tables for repair. Every change evicts the vendor's cached risk evaluation.
+ * Incremental changes share-lock their vendors' rows and the rebuild locks them exclusively, so a change made
+ * while its vendors are being rebuilt waits for the rebuilt rows instead of being lost with the deleted ones.
+ */
+@Service
+public class VendorComplianceStateService {
+
+    public static final String REBUILD_JOB = "compliance-state-rebuild";
+
+    private static final String DOCUMENT_TYPES_SQL = Arrays.stream(DocumentType.values())
+            .map(type -> "SELECT '" + type.name() + "' AS document_type")
+            .collect(Collectors.joining(" UNION ALL "));
+
+    // %1$s is the vendor filter applied to each source table, %2$s the same filter on vendors
+    private static final String INSERT_STATE_SQL = "INSERT INTO vendor_compliance_state"
+            + " (vendor_id, document_type, latest_document_id, latest_uploaded_at, expiry_date, unresolved_flags)"
+            + " SELECT v.id, t.document_type, d.id, d.uploaded_at, d.expiry_date, COALESCE(f.unresolved, 0)"
+            + " FROM vendors v CROSS JOIN (" + DOCUMENT_TYPES_SQL + ") t"
+            + " LEFT JOIN (SELECT id, vendor_id, type, uploaded_at, expiry_date,"
+            + " ROW_NUMBER() OVER (PARTITION BY vendor_id, type ORDER BY uploaded_at DESC, id DESC) AS rn"
+            + " FROM vendor_documents WHERE %1$s) d ON d.vendor_id = v.id AND d.type = t.document_type AND d.rn = 1"
+            + " LEFT JOIN (SELECT vendor_id, COUNT(*) AS unresolved FROM audit_flags"
+            + " WHERE resolved = false AND %1$s GROUP BY vendor_id) f ON f.vendor_id = v.id"
+            + " WHERE %2$s AND NOT EXISTS (SELECT 1 FROM vendor_compliance_state s WHERE s.vendor_id = v.id)";
+
+    private static final String LOCK_VENDORS_SQL = "SELECT id FROM vendors WHERE id IN (%s) ORDER BY id FOR UPDATE";
+
+    private static final String SHARE_LOCK_VENDORS_SQL = "SELECT id FROM vendors WHERE id IN (%s)"
+            + " ORDER BY id FOR SHARE";
+
+    private static final String LOCK_VENDOR_RANGE_SQL = "SELECT id FROM vendors WHERE id BETWEEN ? AND ?"
+            + " ORDER BY id FOR UPDATE";
+
+    private static final String DELETE_RANGE_SQL = "DELETE FROM vendor_compliance_state WHERE vendor_id BETWEEN ? AND ?";
+
+    // Applied per uploaded document; an older or equal upload leaves the newer latest document in place
+    private static final String ADVANCE_DOCUMENT_SQL = "UPDATE vendor_compliance_state"
+            + " SET latest_document_id = ?, latest_uploaded_at = ?, expiry_date = ?"
+            + " WHERE vendor_id = ? AND document_type = ? AND (latest_uploaded_at IS NULL OR latest_uploaded_at < ?"
+            + " OR (latest_uploaded_at = ? AND latest_document_id < ?))";
+
+    private static final String ADJUST_FLAGS_SQL = "UPDATE vendor_compliance_state"
+            + " SET unresolved_flags = unresolved_flags + ? WHERE vendor_id IN (%s)";
+
+    private final VendorComplianceStateRepository vendorComplianceStateRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PartitionedJobRunner partitionedJobRunner;
+    private final Cache riskScoreCache;
+    private final AfterCommitCacheEvictor cacheEvictor;
+
+    @Value("${app.compliance-state.rebuild.chunk-size:2000}")
+    private int rebuildChunkSize;
+
+    public VendorComplianceStateService(
+            VendorComplianceStateRepository vendorComplianceStateRepository,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            PartitionedJobRunner partitionedJobRunner,
+            CacheManager cacheManager,
+            AfterCommitCacheEvictor cacheEvictor
+    ) {
+        this.vendorComplianceStateRepository = vendorComplianceStateRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.partitionedJobRunner = partitionedJobRunner;
+        this.riskScoreCache = cacheManager.getCache(CacheConfig.RISK_SCORES_CACHE);
+        this.cacheEvictor = cacheEvictor;
+    }
+
+    @Transactional(readOnly = true)
+    public List<VendorComplianceState> findForVendor(Long vendorId) {
+        return vendorComplianceStateRepository.findByVendorId(vendorId);
+    }
+
+    /**
+     * Creates the rows of vendors that have none yet. Must run before the caller writes the document or flag
+     * it is about to record, so the snapshot built from the source tables does not already include it.
+     */
+    @Transactional
+    public void ensureInitialized(Collection<Long> vendorIds) {
+        if (vendorIds.isEmpty()) {
+            return;
+        }
+        Set<Long> missing = new HashSet<>(vendorIds);
+        missing.removeAll(vendorComplianceStateRepository.findVendorIdsWithState(vendorIds));
+        if (missing.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(missing);
+        String placeholders = placeholders(ids.size());
+        // Concurrent first writes for the same vendor queue on its row; NOT EXISTS skips the loser's insert
+        jdbcTemplate.queryForList(String.format(LOCK_VENDORS_SQL, placeholders), Long.class, ids.toArray());
+
+        List<Object> args = new ArrayList<>(ids.size() * 3);
+        args.addAll(ids);
+        args.addAll(ids);
+        args.addAll(ids);
+        jdbcTemplate.update(String.format(INSERT_STATE_SQL,
+                "vendor_id IN (" + placeholders + ")", "v.id IN (" + placeholders + ")"), args.toArray());
+    }
+
+    @Transactional
+    public void recordDocuments(Long vendorId, List<VendorDocument> documents) {
+        lockAgainstRebuild(List.of(vendorId));
+        List<Object[]> updates = new ArrayList<>(documents.size());
+        for (VendorDocument document : documents) {
+            Timestamp uploadedAt = Timestamp.valueOf(document.getUploadedAt());
+            updates.add(new Object[]{document.getId(), uploadedAt, Date.valueOf(document.getExpiryDate()),
+                    vendorId, document.getType().name(), uploadedAt, uploadedAt, document.getId()});
+        }
+        jdbcTemplate.batchUpdate(ADVANCE_DOCUMENT_SQL, updates);
+        evictRiskScores(List.of(vendorId));
+    }
+
+    @Transactional
+    public void adjustUnresolvedFlags(Collection<Long> vendorIds, int delta) {
+        if (vendorIds.isEmpty()) {
+            return;
+        }
+        lockAgainstRebuild(vendorIds);
+        List<Object> args = new ArrayList<>(vendorIds.size() + 1);
+        args.add(delta);
+        args.addAll(vendorIds);
+        jdbcTemplate.update(String.format(ADJUST_FLAGS_SQL, placeholders(vendorIds.size())), args.toArray());
+        evictRiskScores(vendorIds);
+    }
+
+    /**
+     * Evicts after commit and again shortly after, dropping a score that a concurrent
+     * {@link RiskService#getRiskScore} read before the commit and cached after the first eviction.
+     */
+    private void evictRiskScores(Collection<Long> vendorIds) {
+        cacheEvictor.evict(riskScoreCache, vendorIds.stream().map(RiskService::riskScoreCacheKey).toList());
+    }
+
+    /**
+     * Recomputes every vendor's rows from {@code vendor_documents} and {@code audit_flags}. Returns the number
+     * of vendors rebuilt, or -1 when a rebuild is already running on another instance.
+     */
+    public long rebuild() {
+        long rebuilt = partitionedJobRunner.run(REBUILD_JOB, this::rebuildRange);
+        riskScoreCache.clear();
+        return rebuilt;
+    }
+
+    private long rebuildRange(long fromVendorId, long toVendorId) {
+        long rebuilt = 0;
+        for (long chunkStart = fromVendorId; chunkStart <= toVendorId; chunkStart += rebuildChunkSize) {
+            long chunkEnd = Math.min(toVendorId, chunkStart + rebuildChunkSize - 1);
+            long start = chunkStart;
+            Integer rows = transactionTemplate.execute(status -> {
+                // Waits for in-flight changes to these vendors to commit, so the snapshot below includes them
+                jdbcTemplate.queryForList(LOCK_VENDOR_RANGE_SQL, Long.class, start, chunkEnd);
+                jdbcTemplate.update(DELETE_RANGE_SQL, start, chunkEnd);
+                return jdbcTemplate.update(String.format(INSERT_STATE_SQL,
+                                "vendor_id BETWEEN ? AND ?", "v.id BETWEEN ? AND ?"),
+                        start, chunkEnd, start, chunkEnd, start, chunkEnd);
+            });
+            rebuilt += rows != null ? rows / DocumentType.values().length : 0;
+        }
+        return rebuilt;
+    }
+
+    /**
+     * Held until the caller commits, so a rebuild of these vendors cannot snapshot the source tables without the
+     * caller's document or flag and then delete the rows the caller updated.
+     */
+    private void lockAgainstRebuild(Collection<Long> vendorIds) {
+        jdbcTemplate.queryForList(String.format(SHARE_LOCK_VENDORS_SQL, placeholders(vendorIds.size())), Long.class,
+                vendorIds.toArray());
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -1,18 +1,31 @@
 package com.vendorcompliance.service;
 
+import com.vendorcompliance.dto.DocumentUploadItem;
 import com.vendorcompliance.dto.VendorDocumentResponse;
 import com.vendorcompliance.entity.DocumentType;
 import com.vendorcompliance.entity.Vendor;
 import com.vendorcompliance.entity.VendorDocument;
 import com.vendorcompliance.exception.BadRequestException;
+import com.vendorcompliance.exception.ResourceNotFoundException;
 import com.vendorcompliance.repository.VendorDocumentRepository;
+import com.vendorcompliance.storage.DocumentStorage;
+import com.vendorcompliance.storage.DocumentStorageException;
+import com.vendorcompliance.storage.StoredContent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class VendorDocumentService {
@@ -20,18 +33,37 @@ public class VendorDocumentService {
     private final VendorService vendorService;
     private final VendorDocumentRepository vendorDocumentRepository;
     private final AuditService auditService;
-    private final RiskService riskService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DocumentStorage documentStorage;
+    private final VendorComplianceStateService vendorComplianceStateService;
+    private final Timer storeTimer;
+    private final DistributionSummary uploadSizes;
+
+    @Value("${app.documents.batch.max-files:20}")
+    private int maxBatchFiles;
 
     public VendorDocumentService(
             VendorService vendorService,
             VendorDocumentRepository vendorDocumentRepository,
             AuditService auditService,
-            RiskService riskService
+            ApplicationEventPublisher eventPublisher,
+            DocumentStorage documentStorage,
+            VendorComplianceStateService vendorComplianceStateService,
+            MeterRegistry meterRegistry
     ) {
         this.vendorService = vendorService;
         this.vendorDocumentRepository = vendorDocumentRepository;
         this.auditService = auditService;
-        this.riskService = riskService;
+        this.eventPublisher = eventPublisher;
+        this.documentStorage = documentStorage;
+        this.vendorComplianceStateService = vendorComplianceStateService;
+        this.storeTimer = Timer.builder("compliance.document.store")
+                .description("Time to hash and write one uploaded file to document storage")
+                .register(meterRegistry);
+        this.uploadSizes = DistributionSummary.builder("compliance.document.upload.size")
+                .description("Size of uploaded document files")
+                .baseUnit("bytes")
+                .register(meterRegistry);
     }
 
     @Transactional
@@ -42,59 +74,118 @@ public class VendorDocumentService {
             LocalDate expiryDate,
             String actor
     ) {
-        Vendor vendor = vendorService.findVendorOrThrow(vendorId);
+        Vendor vendor = vendorService.getVendorReference(vendorId);
+        validateUpload(type, file, expiryDate);
+        vendorComplianceStateService.ensureInitialized(List.of(vendorId));
 
-        if (file == null || file.isEmpty()) {
-            throw new BadRequestException("Document file is required");
-        }
-        if (type == null) {
-            throw new BadRequestException("Document type is required");
+        VendorDocument savedDocument = vendorDocumentRepository.save(buildDocument(vendor, type, file, expiryDate, actor));
+        vendorComplianceStateService.recordDocuments(vendorId, List.of(savedDocument));
+        auditService.logDocumentUploaded(actor, vendorId, type, savedDocument.getFileName(), expiryDate);
+
+        // Risk is recalculated asynchronously once this upload commits
+        eventPublisher.publishEvent(new VendorRiskInputsChangedEvent(vendorId, actor));
+
+        return toResponse(savedDocument);
+    }
+
+    @Transactional
+    public List<VendorDocumentResponse> uploadDocuments(Long vendorId, List<DocumentUploadItem> items, String actor) {
+        if (items == null || items.isEmpty()) {
+            throw new BadRequestException("At least one document is required");
         }
-        if (expiryDate == null) {
-            throw new BadRequestException("Expiry date is required");
+        if (items.size() > maxBatchFiles) {
+            throw new BadRequestException("At most " + maxBatchFiles + " documents can be uploaded at once");
         }
+        Vendor vendor = vendorService.getVendorReference(vendorId);
+        // Reject the whole batch before storing anything
+        items.forEach(item -> validateUpload(item.getType(), item.getFile(), item.getExpiryDate()));
 
-        try {
-            VendorDocument document = new VendorDocument();
-            document.setVendor(vendor);
-            document.setType(type);
-            document.setFileName(file.getOriginalFilename() != null ? file.getOriginalFilename() : "document.bin");
-            document.setMimeType(file.getContentType() != null ? file.getContentType() : "application/octet-stream");
-            document.setContent(file.getBytes());
-            document.setExpiryDate(expiryDate);
-            document.setUploadedBy(actor);
-
-            VendorDocument savedDocument = vendorDocumentRepository.save(document);
-            auditService.logDocumentUploaded(actor, vendorId, type, savedDocument.getFileName(), expiryDate);
-            
-            // Recalculate risk when document is uploaded
-            riskService.recalculateRiskForVendor(vendorId, actor);
-            
-            return toResponse(savedDocument);
-        } catch (IOException ex) {
-            throw new BadRequestException("Failed to read uploaded document");
+        List<VendorDocument> documents = new ArrayList<>(items.size());
+        for (DocumentUploadItem item : items) {
+            documents.add(buildDocument(vendor, item.getType(), item.getFile(), item.getExpiryDate(), actor));
         }
+        vendorComplianceStateService.ensureInitialized(List.of(vendorId));
+        List<VendorDocument> savedDocuments = vendorDocumentRepository.saveAll(documents);
+        vendorComplianceStateService.recordDocuments(vendorId, savedDocuments);
+        List<VendorDocumentResponse> responses = savedDocuments.stream()
+                .map(this::toResponse)
+                .toList();
+
+        auditService.logDocumentsUploaded(actor, vendorId, responses);
+        eventPublisher.publishEvent(new VendorRiskInputsChangedEvent(vendorId, actor));
+
+        return responses;
     }
 
     @Transactional(readOnly = true)
     public List<VendorDocumentResponse> listVendorDocuments(Long vendorId) {
-        vendorService.findVendorOrThrow(vendorId);
+        vendorService.getVendorReference(vendorId);
         return vendorDocumentRepository.findByVendorIdOrderByUploadedAtDesc(vendorId).stream()
                 .map(this::toResponse)
                 .toList();
     }
 
     @Transactional(readOnly = true)
-    public List<VendorDocument> listVendorDocumentsForRisk(Long vendorId) {
-        return vendorDocumentRepository.findByVendorIdOrderByUploadedAtDesc(vendorId);
+    public DocumentDownload findDocumentForDownload(Long vendorId, Long documentId) {
+        VendorDocument document = vendorDocumentRepository.findByIdAndVendorId(documentId, vendorId)
+                .orElseThrow(() -> new ResourceNotFoundException("Document not found: " + documentId));
+        if (document.getStorageKey() == null || !documentStorage.exists(document.getStorageKey())) {
+            throw new ResourceNotFoundException("Document content not available: " + documentId);
+        }
+        return new DocumentDownload(document.getFileName(), document.getMimeType(), document.getSizeBytes(),
+                document.getSha256(), document.getStorageKey());
+    }
+
+    private void validateUpload(DocumentType type, MultipartFile file, LocalDate expiryDate) {
+        if (file == null || file.isEmpty()) {
+            throw new BadRequestException("Document file is required");
+        }
+        if (type == null) {
+            throw new BadRequestException("Document type is required");
+        }
+        if (expiryDate == null) {
+            throw new BadRequestException("Expiry date is required");
+        }
+    }
+
+    private VendorDocument buildDocument(
+            Vendor vendor,
+            DocumentType type,
+            MultipartFile file,
+            LocalDate expiryDate,
+            String actor
+    ) {
+        StoredContent storedContent;
+        long startedAt = System.nanoTime();
+        try (InputStream content = file.getInputStream()) {
+            storedContent = documentStorage.store(content);
+        } catch (IOException ex) {
+            throw new DocumentStorageException("Failed to store uploaded document", ex);
+        }
+        storeTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        uploadSizes.record(storedContent.getSizeBytes());
+
+        VendorDocument document = new VendorDocument();
+        document.setVendor(vendor);
+        document.setType(type);
+        document.setFileName(file.getOriginalFilename() != null ? file.getOriginalFilename() : "document.bin");
+        document.setMimeType(file.getContentType() != null ? file.getContentType() : "application/octet-stream");
+        document.setSha256(storedContent.getSha256());
+        document.setSizeBytes(storedContent.getSizeBytes());
+        document.setStorageKey(storedContent.getStorageKey());
+        document.setExpiryDate(expiryDate);
+        document.setUploadedBy(actor);
+        return document;
     }
 
-    private VendorDocumentResponse toResponse(VendorDocument document) {
+    VendorDocumentResponse toResponse(VendorDocument document) {
         VendorDocumentResponse response = new VendorDocumentResponse();
         response.setId(document.getId());
         response.setType(document.getType());
         response.setFileName(document.getFileName());
         response.setMimeType(document.getMimeType());
+        response.setSizeBytes(document.getSizeBytes());
+        response.setSha256(document.getSha256());
         response.setExpiryDate(document.getExpiryDate());
         response.setExpired(document.getExpiryDate().isBefore(LocalDate.now()));
         response.setUploadedBy(document.getUploadedBy());
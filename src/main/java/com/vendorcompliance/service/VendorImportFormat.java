@@ -0,0 +1,6 @@
+package com.vendorcompliance.service;
+
+public enum VendorImportFormat {
+    CSV,
+    NDJSON
+}
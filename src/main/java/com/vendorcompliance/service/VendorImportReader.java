@@ -0,0 +1,14 @@
+package com.vendorcompliance.service;
+
+import java.io.IOException;
+
+/**
+ * Pulls one vendor row at a time from an import body so the file is never held in memory.
+ */
+interface VendorImportReader {
+
+    /**
+     * Returns the next row, or null at end of input.
+     */
+    VendorImportRow next() throws IOException;
+}
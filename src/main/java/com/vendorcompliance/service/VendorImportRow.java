@@ -0,0 +1,36 @@
+package com.vendorcompliance.service;
+
+import com.vendorcompliance.dto.VendorOnboardingRequest;
+
+final class VendorImportRow {
+
+    private final long lineNumber;
+    private final VendorOnboardingRequest request;
+    private final String parseError;
+
+    private VendorImportRow(long lineNumber, VendorOnboardingRequest request, String parseError) {
+        this.lineNumber = lineNumber;
+        this.request = request;
+        this.parseError = parseError;
+    }
+
+    static VendorImportRow parsed(long lineNumber, VendorOnboardingRequest request) {
+        return new VendorImportRow(lineNumber, request, null);
+    }
+
+    static VendorImportRow failed(long lineNumber, String parseError) {
+        return new VendorImportRow(lineNumber, null, parseError);
+    }
+
+    long getLineNumber() {
+        return lineNumber;
+    }
+
+    VendorOnboardingRequest getRequest() {
+        return request;
+    }
+
+    String getParseError() {
+        return parseError;
+    }
+}
@@ -0,0 +1,168 @@
+package com.vendorcompliance.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vendorcompliance.dto.VendorImportError;
+import com.vendorcompliance.dto.VendorImportResult;
+import com.vendorcompliance.dto.VendorOnboardingRequest;
+import com.vendorcompliance.entity.Vendor;
+import com.vendorcompliance.repository.VendorRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Streams a CSV or NDJSON vendor file through validation, a set-based registration number check and batched
+ * inserts. Each batch commits on its own, and a bad row is reported instead of failing the file.
+ */
+@Service
+public class VendorImportService {
+
+    private final VendorRepository vendorRepository;
+    private final VendorService vendorService;
+    private final AuditService auditService;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.vendors.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.vendors.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    public VendorImportService(
+            VendorRepository vendorRepository,
+            VendorService vendorService,
+            AuditService auditService,
+            EntityManager entityManager,
+            TransactionTemplate transactionTemplate,
+            Validator validator,
+            ObjectMapper objectMapper
+    ) {
+        this.vendorRepository = vendorRepository;
+        this.vendorService = vendorService;
+        this.auditService = auditService;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+    }
+
+    public VendorImportResult importVendors(InputStream body, VendorImportFormat format, String actor) throws IOException {
+        BufferedReader input = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        VendorImportReader reader = format == VendorImportFormat.CSV
+                ? new CsvVendorImportReader(input)
+                : new NdjsonVendorImportReader(input, objectMapper);
+
+        VendorImportResult result = new VendorImportResult();
+        Set<String> seenRegistrationNumbers = new HashSet<>();
+        List<VendorImportRow> batch = new ArrayList<>(batchSize);
+
+        VendorImportRow row;
+        while ((row = reader.next()) != null) {
+            result.setTotalRows(result.getTotalRows() + 1);
+            String error = validate(row);
+            if (error == null && !seenRegistrationNumbers.add(row.getRequest().getRegistrationNumber())) {
+                error = "Duplicate registration number earlier in the file";
+            }
+            if (error != null) {
+                recordError(result, row, error);
+                continue;
+            }
+
+            batch.add(row);
+            if (batch.size() >= batchSize) {
+                importBatch(batch, actor, result);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            importBatch(batch, actor, result);
+        }
+        return result;
+    }
+
+    private String validate(VendorImportRow row) {
+        if (row.getParseError() != null) {
+            return row.getParseError();
+        }
+        Set<ConstraintViolation<VendorOnboardingRequest>> violations = validator.validate(row.getRequest());
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private void importBatch(List<VendorImportRow> batch, String actor, VendorImportResult result) {
+        Set<String> existing = new HashSet<>(vendorRepository.findExistingRegistrationNumbers(batch.stream()
+                .map(row -> row.getRequest().getRegistrationNumber())
+                .toList()));
+
+        List<VendorImportRow> toInsert = new ArrayList<>(batch.size());
+        for (VendorImportRow row : batch) {
+            if (existing.contains(row.getRequest().getRegistrationNumber())) {
+                recordError(result, row, "Vendor with registration number already exists");
+            } else {
+                toInsert.add(row);
+            }
+        }
+        if (toInsert.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(toInsert, actor));
+            result.setImportedCount(result.getImportedCount() + toInsert.size());
+        } catch (DataIntegrityViolationException ex) {
+            // Another writer inserted one of these meanwhile; retry row by row to isolate it
+            for (VendorImportRow row : toInsert) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insert(List.of(row), actor));
+                    result.setImportedCount(result.getImportedCount() + 1);
+                } catch (DataIntegrityViolationException rowEx) {
+                    recordError(result, row, "Vendor with registration number already exists");
+                }
+            }
+        }
+    }
+
+    private void insert(List<VendorImportRow> rows, String actor) {
+        for (VendorImportRow row : rows) {
+            Vendor vendor = vendorService.newVendor(row.getRequest(), actor);
+            entityManager.persist(vendor);
+            auditService.logVendorOnboardingSubmitted(actor, vendor.getId());
+        }
+        // No explicit flush: the commit flushes the batch, and JpaTransactionManager translates a unique key
+        // violation there into DataIntegrityViolationException. A flush on the shared EntityManager would throw
+        // Hibernate's untranslated exception and skip the row-by-row fallback.
+    }
+
+    private void recordError(VendorImportResult result, VendorImportRow row, String message) {
+        result.setFailedCount(result.getFailedCount() + 1);
+        if (result.getErrors().size() >= maxReportedErrors) {
+            result.setErrorsTruncated(true);
+            return;
+        }
+        String registrationNumber = row.getRequest() != null ? row.getRequest().getRegistrationNumber() : null;
+        result.getErrors().add(new VendorImportError(row.getLineNumber(), registrationNumber, message));
+    }
+}
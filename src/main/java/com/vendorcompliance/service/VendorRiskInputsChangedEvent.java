@@ -0,0 +1,23 @@
+package com.vendorcompliance.service;
+
+/**
+ * Published whenever a document or audit flag change may move a vendor's risk score.
+ */
+public class VendorRiskInputsChangedEvent {
+
+    private final Long vendorId;
+    private final String actor;
+
+    public VendorRiskInputsChangedEvent(Long vendorId, String actor) {
+        this.vendorId = vendorId;
+        this.actor = actor;
+    }
+
+    public Long getVendorId() {
+        return vendorId;
+    }
+
+    public String getActor() {
+        return actor;
+    }
+}
@@ -1,5 +1,7 @@
 package com.vendorcompliance.service;
 
+import com.vendorcompliance.config.CacheConfig;
+import com.vendorcompliance.dto.CursorPageResponse;
 import com.vendorcompliance.dto.VendorApprovalRequest;
 import com.vendorcompliance.dto.VendorApprovalDecisionRequest;
 import com.vendorcompliance.dto.VendorOnboardingRequest;
@@ -9,20 +11,45 @@ import com.vendorcompliance.entity.VendorStatus;
 import com.vendorcompliance.exception.BadRequestException;
 import com.vendorcompliance.exception.ResourceNotFoundException;
 import com.vendorcompliance.repository.VendorRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class VendorService {
 
     private final VendorRepository vendorRepository;
     private final AuditService auditService;
-
-    public VendorService(VendorRepository vendorRepository, AuditService auditService) {
+    private final EntityManager entityManager;
+    private final Cache vendorCache;
+    private final PageSizePolicy pageSizePolicy;
+    private final AfterCommitCacheEvictor cacheEvictor;
+
+    public VendorService(
+            VendorRepository vendorRepository,
+            AuditService auditService,
+            EntityManager entityManager,
+            CacheManager cacheManager,
+            PageSizePolicy pageSizePolicy,
+            AfterCommitCacheEvictor cacheEvictor
+    ) {
         this.vendorRepository = vendorRepository;
         this.auditService = auditService;
+        this.entityManager = entityManager;
+        this.vendorCache = cacheManager.getCache(CacheConfig.VENDORS_CACHE);
+        this.pageSizePolicy = pageSizePolicy;
+        this.cacheEvictor = cacheEvictor;
     }
 
     @Transactional
@@ -31,6 +58,12 @@ public class VendorService {
             throw new BadRequestException("Vendor with registration number already exists");
         }
 
+        Vendor savedVendor = vendorRepository.save(newVendor(request, actor));
+        auditService.logVendorOnboardingSubmitted(actor, savedVendor.getId());
+        return toResponse(savedVendor);
+    }
+
+    Vendor newVendor(VendorOnboardingRequest request, String actor) {
         Vendor vendor = new Vendor();
         vendor.setLegalName(request.getLegalName());
         vendor.setTradingName(request.getTradingName());
@@ -42,23 +75,57 @@ public class VendorService {
         vendor.setStatus(VendorStatus.PENDING);
         vendor.setCreatedBy(actor);
         vendor.setUpdatedBy(actor);
-
-        Vendor savedVendor = vendorRepository.save(vendor);
-        auditService.logVendorOnboardingSubmitted(actor, savedVendor.getId());
-        return toResponse(savedVendor);
+        return vendor;
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Reads on the primary even when a replica is configured: the result is cached for the full TTL, and a lagging
+     * replica could still return the state from before a change whose evictions have already run.
+     */
+    @Cacheable(cacheNames = CacheConfig.VENDORS_CACHE, key = "#vendorId")
+    @Transactional
     public VendorResponse getVendorById(Long vendorId) {
         return toResponse(findVendorOrThrow(vendorId));
     }
 
     @Transactional(readOnly = true)
-    public List<VendorResponse> listVendors(VendorStatus status) {
-        List<Vendor> vendors = status == null
-                ? vendorRepository.findAllByOrderByCreatedAtDesc()
-                : vendorRepository.findByStatusOrderByCreatedAtDesc(status);
-        return vendors.stream().map(this::toResponse).toList();
+    public CursorPageResponse<VendorResponse> listVendors(VendorStatus status, String cursor, Integer size) {
+        int pageSize = pageSizePolicy.resolve(size);
+        // Fetch one extra row to learn whether another page exists without a count query
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        KeysetCursor after = cursor == null || cursor.isBlank() ? null : KeysetCursor.decode(cursor);
+
+        List<Vendor> vendors;
+        if (after == null) {
+            vendors = status == null
+                    ? vendorRepository.findFirstPage(limit)
+                    : vendorRepository.findFirstPageByStatus(status, limit);
+        } else {
+            vendors = status == null
+                    ? vendorRepository.findPageAfter(after.getTimestamp(), after.getId(), limit)
+                    : vendorRepository.findPageAfterByStatus(status, after.getTimestamp(), after.getId(), limit);
+        }
+
+        String nextCursor = null;
+        if (vendors.size() > pageSize) {
+            vendors = vendors.subList(0, pageSize);
+            Vendor last = vendors.get(pageSize - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPageResponse<>(vendors.stream().map(this::toResponse).toList(), nextCursor, pageSize);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamVendors(VendorStatus status, Consumer<VendorResponse> consumer) {
+        try (Stream<Vendor> vendors = status == null
+                ? vendorRepository.streamAll()
+                : vendorRepository.streamByStatus(status)) {
+            vendors.forEach(vendor -> {
+                consumer.accept(toResponse(vendor));
+                // Keep the persistence context empty so memory stays flat for the whole scroll
+                entityManager.detach(vendor);
+            });
+        }
     }
 
     @Transactional
@@ -81,12 +148,21 @@ public class VendorService {
         return rejectVendor(vendorId, approvalRequest, actor);
     }
 
+    /**
+     * Stores a freshly calculated score and returns whether the score or its breakdown differ from the
+     * stored ones, which is what decides whether the calculation is audited.
+     */
     @Transactional
-    public void updateRiskScore(Long vendorId, Integer riskScore) {
+    public boolean updateRiskScore(Long vendorId, Integer riskScore, String riskBreakdown) {
         Vendor vendor = findVendorOrThrow(vendorId);
+        boolean changed = !Objects.equals(vendor.getRiskScore(), riskScore)
+                || !Objects.equals(vendor.getRiskBreakdown(), riskBreakdown);
         vendor.setRiskScore(riskScore);
+        vendor.setRiskBreakdown(riskBreakdown);
         vendor.setLastRiskCalculatedAt(java.time.LocalDateTime.now());
         vendorRepository.save(vendor);
+        evict(List.of(vendorId));
+        return changed;
     }
 
     @Transactional(readOnly = true)
@@ -95,6 +171,33 @@ public class VendorService {
                 .orElseThrow(() -> new ResourceNotFoundException("Vendor not found: " + vendorId));
     }
 
+    /**
+     * Returns an uninitialized reference for associating documents or flags with the vendor, without
+     * loading it. A cached vendor needs no existence query at all; vendors are never deleted.
+     */
+    @Transactional(readOnly = true)
+    public Vendor getVendorReference(Long vendorId) {
+        if (vendorCache.get(vendorId) == null && !vendorRepository.existsById(vendorId)) {
+            throw new ResourceNotFoundException("Vendor not found: " + vendorId);
+        }
+        return vendorRepository.getReferenceById(vendorId);
+    }
+
+    /**
+     * Drops cached vendors whose rows were changed outside this service, once the current transaction commits.
+     */
+    public void evictCached(Collection<Long> vendorIds) {
+        evict(List.copyOf(vendorIds));
+    }
+
+    /**
+     * Evicts after commit and again shortly after, dropping a response that a concurrent {@link #getVendorById}
+     * read before the commit and cached after the first eviction.
+     */
+    private void evict(List<Long> vendorIds) {
+        cacheEvictor.evict(vendorCache, vendorIds);
+    }
+
     private VendorResponse updateStatus(Long vendorId, VendorStatus status, VendorApprovalRequest request, String actor) {
         Vendor vendor = findVendorOrThrow(vendorId);
         if (vendor.getStatus() == status) {
@@ -108,6 +211,7 @@ public class VendorService {
         }
 
         Vendor savedVendor = vendorRepository.save(vendor);
+        evict(List.of(vendorId));
         if (status == VendorStatus.APPROVED) {
             auditService.logVendorApproved(actor, vendorId, request != null ? request.getComments() : null);
         } else {
@@ -116,7 +220,7 @@ public class VendorService {
         return toResponse(savedVendor);
     }
 
-    private VendorResponse toResponse(Vendor vendor) {
+    VendorResponse toResponse(Vendor vendor) {
         VendorResponse response = new VendorResponse();
         response.setId(vendor.getId());
         response.setLegalName(vendor.getLegalName());
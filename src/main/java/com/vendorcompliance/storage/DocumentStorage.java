@@ -0,0 +1,53 @@
+package com.vendorcompliance.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Storage for document content, kept outside the relational database. Implementations are content-addressed:
+ * the storage key is derived from the SHA-256 of the content, so storing identical bytes twice keeps one copy.
+ * Content is written before the row referencing it commits; content no row ended up referencing is removed
+ * later by {@code DocumentStorageSweeper}.
+ */
+public interface DocumentStorage {
+
+    /**
+     * Streams the content into the store without buffering it fully in memory. The stream is not closed.
+     * Storing content that already exists refreshes its stored time.
+     */
+    StoredContent store(InputStream content) throws IOException;
+
+    InputStream open(String storageKey) throws IOException;
+
+    boolean exists(String storageKey);
+
+    /**
+     * Keys of content last stored before the cutoff. The stream must be closed.
+     */
+    Stream<String> keysStoredBefore(Instant cutoff) throws IOException;
+
+    /**
+     * First step of a delete: moves the content out of reach of readers and {@link #store}, unless it was stored
+     * again at or after the cutoff. Returns whether it was quarantined. Storing the same bytes while the content
+     * is quarantined writes a fresh copy. The caller then either restores or deletes it.
+     */
+    boolean quarantineIfStoredBefore(String storageKey, Instant cutoff) throws IOException;
+
+    /**
+     * Puts quarantined content back, e.g. because a row has started referencing it since it was quarantined.
+     */
+    void restoreQuarantined(String storageKey) throws IOException;
+
+    void deleteQuarantined(String storageKey) throws IOException;
+
+    /**
+     * The file backing a key when content lives on the local filesystem, letting callers serve it zero-copy.
+     */
+    default Optional<Path> localPath(String storageKey) {
+        return Optional.empty();
+    }
+}
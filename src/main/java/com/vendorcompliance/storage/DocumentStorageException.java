@@ -0,0 +1,8 @@
+package com.vendorcompliance.storage;
+
+public class DocumentStorageException extends RuntimeException {
+
+    public DocumentStorageException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,122 @@
+package com.vendorcompliance.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.vendorcompliance.repository.VendorDocumentRepository;
+import com.vendorcompliance.service.JobLockService;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Deletes stored content that no {@code vendor_documents} row references. Uploads write content before their
+ * transaction commits, so a rollback leaves the file behind. Content is only deleted once it has not been stored
+ * for the grace period, which keeps the sweep away from uploads still in flight; content addressing means a
+ * rollback cannot delete its file itself, as another upload may be committing a row for the same bytes.
+ */
+@Component
+public class DocumentStorageSweeper {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DocumentStorageSweeper.class);
+
+    public static final String SWEEP_JOB = "document-storage-sweep";
+
+    private final DocumentStorage documentStorage;
+    private final VendorDocumentRepository vendorDocumentRepository;
+    private final JobLockService jobLockService;
+
+    @Value("${app.storage.sweep.grace-period:PT24H}")
+    private Duration gracePeriod;
+
+    @Value("${app.storage.sweep.batch-size:500}")
+    private int batchSize;
+
+    public DocumentStorageSweeper(
+            DocumentStorage documentStorage,
+            VendorDocumentRepository vendorDocumentRepository,
+            JobLockService jobLockService
+    ) {
+        this.documentStorage = documentStorage;
+        this.vendorDocumentRepository = vendorDocumentRepository;
+        this.jobLockService = jobLockService;
+    }
+
+    @Scheduled(cron = "${app.storage.sweep.cron:0 0 5 * * ?}")
+    public void sweepUnreferencedContent() {
+        if (!jobLockService.tryAcquire(SWEEP_JOB)) {
+            LOGGER.info("Skipping job {}: lock held by another instance", SWEEP_JOB);
+            return;
+        }
+
+        boolean succeeded = false;
+        try {
+            long deleted = sweep(Instant.now().minus(gracePeriod));
+            LOGGER.info("Deleted {} unreferenced stored documents", deleted);
+            succeeded = true;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            jobLockService.release(SWEEP_JOB, succeeded);
+        }
+    }
+
+    private long sweep(Instant cutoff) throws IOException {
+        long deleted = 0;
+        try (Stream<String> keys = documentStorage.keysStoredBefore(cutoff)) {
+            Iterator<String> iterator = keys.iterator();
+            List<String> batch = new ArrayList<>(batchSize);
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == batchSize || !iterator.hasNext()) {
+                    long batchDeleted = deleteUnreferenced(batch, cutoff);
+                    jobLockService.recordPartitionCompleted(SWEEP_JOB, batchDeleted);
+                    deleted += batchDeleted;
+                    batch.clear();
+                }
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Quarantines unreferenced content before deleting it, so an upload of the same bytes racing the sweep either
+     * refreshed the stored time first and keeps the content, or finds it gone and stores its own copy. References
+     * are checked again once the content is out of reach, for a row committed since the first check.
+     */
+    private long deleteUnreferenced(List<String> keys, Instant cutoff) throws IOException {
+        Set<String> referenced = new HashSet<>(vendorDocumentRepository.findReferencedStorageKeys(keys));
+        List<String> quarantined = new ArrayList<>();
+        for (String key : keys) {
+            if (!referenced.contains(key) && documentStorage.quarantineIfStoredBefore(key, cutoff)) {
+                quarantined.add(key);
+            }
+        }
+        if (quarantined.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> nowReferenced = new HashSet<>(vendorDocumentRepository.findReferencedStorageKeys(quarantined));
+        long deleted = 0;
+        for (String key : quarantined) {
+            if (nowReferenced.contains(key)) {
+                documentStorage.restoreQuarantined(key);
+            } else {
+                documentStorage.deleteQuarantined(key);
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+}
@@ -0,0 +1,138 @@
+package com.vendorcompliance.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Moves document bytes still held in the legacy {@code vendor_documents.content} column into
+ * {@link DocumentStorage}, one row per transaction, and clears the column afterwards. Safe to rerun:
+ * only rows without a storage key are picked up. The column itself is made nullable by the V1.1 migration.
+ */
+@Component
+public class LegacyDocumentContentMigrator implements ApplicationRunner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LegacyDocumentContentMigrator.class);
+
+    private static final String PENDING_IDS_SQL = "SELECT id FROM vendor_documents"
+            + " WHERE storage_key IS NULL AND content IS NOT NULL AND id > ? ORDER BY id LIMIT ?";
+
+    private static final String SELECT_CONTENT_SQL = "SELECT content FROM vendor_documents WHERE id = ?";
+
+    private static final String UNLINK_LARGE_OBJECT_SQL = "SELECT lo_unlink(content) FROM vendor_documents WHERE id = ?";
+
+    private static final String UPDATE_SQL = "UPDATE vendor_documents"
+            + " SET sha256 = ?, size_bytes = ?, storage_key = ?, content = NULL WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DocumentStorage documentStorage;
+
+    @Value("${app.storage.migrate-legacy-content:true}")
+    private boolean enabled;
+
+    @Value("${app.storage.migrate-batch-size:100}")
+    private int batchSize;
+
+    public LegacyDocumentContentMigrator(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            DocumentStorage documentStorage
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.documentStorage = documentStorage;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        LegacyColumn column = jdbcTemplate.execute((ConnectionCallback<LegacyColumn>) connection ->
+                findLegacyColumn(connection.getMetaData()));
+        if (column == null) {
+            return;
+        }
+
+        long afterId = 0;
+        int migrated = 0;
+        int failed = 0;
+        while (true) {
+            List<Long> ids = jdbcTemplate.queryForList(PENDING_IDS_SQL, Long.class, afterId, batchSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            for (Long id : ids) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> migrateRow(id, column.largeObject));
+                    migrated++;
+                } catch (RuntimeException ex) {
+                    failed++;
+                    LOGGER.error("Failed to migrate content of document {}", id, ex);
+                }
+            }
+            afterId = ids.get(ids.size() - 1);
+        }
+
+        if (migrated > 0 || failed > 0) {
+            LOGGER.info("Legacy document content migration: migrated={}, failed={}", migrated, failed);
+        }
+    }
+
+    private void migrateRow(Long id, boolean largeObject) {
+        StoredContent stored = jdbcTemplate.query(SELECT_CONTENT_SQL, (ResultSetExtractor<StoredContent>) rs -> {
+            if (!rs.next()) {
+                return null;
+            }
+            try (InputStream content = largeObject ? rs.getBlob(1).getBinaryStream() : rs.getBinaryStream(1)) {
+                return documentStorage.store(content);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }, id);
+        if (stored == null) {
+            return;
+        }
+        if (largeObject) {
+            jdbcTemplate.queryForList(UNLINK_LARGE_OBJECT_SQL, id);
+        }
+        jdbcTemplate.update(UPDATE_SQL, stored.getSha256(), stored.getSizeBytes(), stored.getStorageKey(), id);
+    }
+
+    private static LegacyColumn findLegacyColumn(DatabaseMetaData metaData) throws SQLException {
+        for (String table : new String[]{"vendor_documents", "VENDOR_DOCUMENTS"}) {
+            for (String column : new String[]{"content", "CONTENT"}) {
+                try (ResultSet rs = metaData.getColumns(null, null, table, column)) {
+                    if (rs.next()) {
+                        return new LegacyColumn("oid".equalsIgnoreCase(rs.getString("TYPE_NAME")));
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private static final class LegacyColumn {
+        private final boolean largeObject;
+
+        private LegacyColumn(boolean largeObject) {
+            this.largeObject = largeObject;
+        }
+    }
+}
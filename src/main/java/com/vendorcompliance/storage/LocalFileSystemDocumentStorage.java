@@ -0,0 +1,189 @@
+package com.vendorcompliance.storage;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Stores each distinct content once under {@code <root>/<aa>/<bb>/<sha256>}. Uploads are written to a temp
+ * file in the same directory tree while hashing, then moved into place atomically, so a partially written
+ * file is never visible under its final key. A file's modification time is when its content was last stored.
+ * Content being deleted is first renamed into {@code <root>/tmp/deleting}; anything left there by a crashed sweep
+ * is restored on startup.
+ */
+@Component
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "local", matchIfMissing = true)
+public class LocalFileSystemDocumentStorage implements DocumentStorage {
+
+    private static final Pattern STORAGE_KEY_PATTERN = Pattern.compile("[0-9a-f]{2}/[0-9a-f]{2}/[0-9a-f]{64}");
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    @Value("${app.storage.local.root:./data/documents}")
+    private String rootDirectory;
+
+    private Path root;
+    private Path tempDirectory;
+    private Path quarantineDirectory;
+
+    @PostConstruct
+    public void init() throws IOException {
+        root = Paths.get(rootDirectory).toAbsolutePath().normalize();
+        tempDirectory = root.resolve("tmp");
+        quarantineDirectory = tempDirectory.resolve("deleting");
+        Files.createDirectories(quarantineDirectory);
+        try (Stream<Path> quarantined = Files.list(quarantineDirectory)) {
+            for (Path path : (Iterable<Path>) quarantined::iterator) {
+                String sha256 = path.getFileName().toString();
+                restoreQuarantined(sha256.substring(0, 2) + "/" + sha256.substring(2, 4) + "/" + sha256);
+            }
+        }
+    }
+
+    @Override
+    public StoredContent store(InputStream content) throws IOException {
+        MessageDigest digest = newSha256();
+        Path tempFile = Files.createTempFile(tempDirectory, "upload-", ".part");
+        try {
+            long size;
+            try (OutputStream out = new DigestOutputStream(Files.newOutputStream(tempFile), digest)) {
+                size = copy(content, out);
+            }
+
+            String sha256 = HexFormat.of().formatHex(digest.digest());
+            String storageKey = sha256.substring(0, 2) + "/" + sha256.substring(2, 4) + "/" + sha256;
+            Path target = root.resolve(storageKey);
+            if (!touch(target)) {
+                Files.createDirectories(target.getParent());
+                try {
+                    Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException ex) {
+                    // A concurrent upload of the same content won the race; its copy is identical
+                }
+            }
+            return new StoredContent(sha256, size, storageKey);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    @Override
+    public InputStream open(String storageKey) throws IOException {
+        return Files.newInputStream(resolve(storageKey));
+    }
+
+    @Override
+    public boolean exists(String storageKey) {
+        return Files.exists(resolve(storageKey));
+    }
+
+    @Override
+    public Stream<String> keysStoredBefore(Instant cutoff) throws IOException {
+        FileTime cutoffTime = FileTime.from(cutoff);
+        return Files.find(root, 3, (path, attributes) -> attributes.isRegularFile()
+                        && attributes.lastModifiedTime().compareTo(cutoffTime) < 0)
+                .map(path -> root.relativize(path).toString().replace('\\', '/'))
+                .filter(key -> STORAGE_KEY_PATTERN.matcher(key).matches());
+    }
+
+    @Override
+    public boolean quarantineIfStoredBefore(String storageKey, Instant cutoff) throws IOException {
+        Path quarantined = quarantinePath(storageKey);
+        try {
+            Files.move(resolve(storageKey), quarantined, StandardCopyOption.ATOMIC_MOVE);
+        } catch (NoSuchFileException ex) {
+            return false;
+        }
+        // Checked after the rename: a store() that touched the file before it has refreshed this time, and
+        // one after it finds the key missing and writes its own copy
+        if (Files.getLastModifiedTime(quarantined).toInstant().compareTo(cutoff) >= 0) {
+            restoreQuarantined(storageKey);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void restoreQuarantined(String storageKey) throws IOException {
+        Path quarantined = quarantinePath(storageKey);
+        Path target = resolve(storageKey);
+        if (Files.exists(target)) {
+            // An upload stored the same bytes meanwhile; its copy is identical
+            Files.deleteIfExists(quarantined);
+            return;
+        }
+        Files.move(quarantined, target, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    public void deleteQuarantined(String storageKey) throws IOException {
+        Files.deleteIfExists(quarantinePath(storageKey));
+    }
+
+    @Override
+    public Optional<Path> localPath(String storageKey) {
+        return Optional.of(resolve(storageKey));
+    }
+
+    /**
+     * Refreshes the stored time of existing content, which keeps the sweeper away from content a new upload is
+     * about to reference. Returns false when there is no content, including content the sweeper has just moved.
+     */
+    private static boolean touch(Path target) throws IOException {
+        try {
+            Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+            return true;
+        } catch (NoSuchFileException ex) {
+            return false;
+        }
+    }
+
+    private Path quarantinePath(String storageKey) {
+        return quarantineDirectory.resolve(resolve(storageKey).getFileName());
+    }
+
+    private Path resolve(String storageKey) {
+        if (storageKey == null || !STORAGE_KEY_PATTERN.matcher(storageKey).matches()) {
+            throw new IllegalArgumentException("Invalid storage key: " + storageKey);
+        }
+        return root.resolve(storageKey);
+    }
+
+    private static long copy(InputStream in, OutputStream out) throws IOException {
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        long total = 0;
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+            total += read;
+        }
+        return total;
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+}
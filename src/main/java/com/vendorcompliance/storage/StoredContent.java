@@ -0,0 +1,26 @@
+package com.vendorcompliance.storage;
+
+public class StoredContent {
+
+    private final String sha256;
+    private final long sizeBytes;
+    private final String storageKey;
+
+    public StoredContent(String sha256, long sizeBytes, String storageKey) {
+        this.sha256 = sha256;
+        this.sizeBytes = sizeBytes;
+        this.storageKey = storageKey;
+    }
+
+    public String getSha256() {
+        return sha256;
+    }
+
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public String getStorageKey() {
+        return storageKey;
+    }
+}
@@ -0,0 +1,83 @@
+-- Databases created by earlier releases through Hibernate ddl-auto are baselined at V1 without running it.
+-- Bring them up to what V1 creates; on a database created by V1 every statement here is a no-op. MySQL has no
+-- IF NOT EXISTS for columns and indexes, so each change is prepared only when information_schema lacks it.
+-- The id sequence tables are created by V2. Ids keep AUTO_INCREMENT, which MySQL will not drop from a column
+-- that foreign keys reference; explicit ids from the sequences are inserted as given.
+
+SET @upgrade_sql = IF((SELECT COUNT(*) FROM information_schema.columns WHERE table_schema = DATABASE()
+        AND table_name = 'vendor_documents' AND column_name = 'sha256') = 0,
+        'ALTER TABLE vendor_documents ADD COLUMN sha256 VARCHAR(64)', 'DO 0');
+PREPARE upgrade_statement FROM @upgrade_sql;
+EXECUTE upgrade_statement;
+DEALLOCATE PREPARE upgrade_statement;
+
+SET @upgrade_sql = IF((SELECT COUNT(*) FROM information_schema.columns WHERE table_schema = DATABASE()
+        AND table_name = 'vendor_documents' AND column_name = 'size_bytes') = 0,
+        'ALTER TABLE vendor_documents ADD COLUMN size_bytes BIGINT', 'DO 0');
+PREPARE upgrade_statement FROM @upgrade_sql;
+EXECUTE upgrade_statement;
+DEALLOCATE PREPARE upgrade_statement;
+
+SET @upgrade_sql = IF((SELECT COUNT(*) FROM information_schema.columns WHERE table_schema = DATABASE()
+        AND table_name = 'vendor_documents' AND column_name = 'storage_key') = 0,
+        'ALTER TABLE vendor_documents ADD COLUMN storage_key VARCHAR(200)', 'DO 0');
+PREPARE upgrade_statement FROM @upgrade_sql;
+EXECUTE upgrade_statement;
+DEALLOCATE PREPARE upgrade_statement;
+
+-- Older rows keep their bytes in content until LegacyDocumentContentMigrator moves them; new rows leave it null
+SET @upgrade_sql = IF((SELECT COUNT(*) FROM information_schema.columns WHERE table_schema = DATABASE()
+        AND table_name = 'vendor_documents' AND column_name = 'content') = 1,
+        'ALTER TABLE vendor_documents MODIFY content LONGBLOB NULL', 'DO 0');
+PREPARE upgrade_statement FROM @upgrade_sql;
+EXECUTE upgrade_statement;
+DEALLOCATE PREPARE upgrade_statement;
+
+SET @upgrade_sql = IF((SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE()
+        AND table_name = 'vendor_documents' AND index_name = 'idx_vendor_documents_vendor_type_uploaded_at') = 0,
+        'CREATE INDEX idx_vendor_documents_vendor_type_uploaded_at ON vendor_documents (vendor_id, type, uploaded_at)',
+        'DO 0');
+PREPARE upgrade_statement FROM @upgrade_sql;
+EXECUTE upgrade_statement;
+DEALLOCATE PREPARE upgrade_statement;
+
+SET @upgrade_sql = IF((SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE()
+        AND table_name = 'audit_logs' AND index_name = 'idx_audit_logs_created_at') = 0,
+        'CREATE INDEX idx_audit_logs_created_at ON audit_logs (created_at, id)', 'DO 0');
+PREPARE upgrade_statement FROM @upgrade_sql;
+EXECUTE upgrade_statement;
+DEALLOCATE PREPARE upgrade_statement;
+
+SET @upgrade_sql = IF((SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE()
+        AND table_name = 'audit_logs' AND index_name = 'idx_audit_logs_vendor_created_at') = 0,
+        'CREATE INDEX idx_audit_logs_vendor_created_at ON audit_logs (vendor_id, created_at)', 'DO 0');
+PREPARE upgrade_statement FROM @upgrade_sql;
+EXECUTE upgrade_statement;
+DEALLOCATE PREPARE upgrade_statement;
+
+SET @upgrade_sql = IF((SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE()
+        AND table_name = 'audit_logs' AND index_name = 'idx_audit_logs_action_created_at') = 0,
+        'CREATE INDEX idx_audit_logs_action_created_at ON audit_logs (action, created_at)', 'DO 0');
+PREPARE upgrade_statement FROM @upgrade_sql;
+EXECUTE upgrade_statement;
+DEALLOCATE PREPARE upgrade_statement;
+
+SET @upgrade_sql = IF((SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE()
+        AND table_name = 'audit_logs' AND index_name = 'idx_audit_logs_actor_created_at') = 0,
+        'CREATE INDEX idx_audit_logs_actor_created_at ON audit_logs (actor_username, created_at)', 'DO 0');
+PREPARE upgrade_statement FROM @upgrade_sql;
+EXECUTE upgrade_statement;
+DEALLOCATE PREPARE upgrade_statement;
+
+CREATE TABLE IF NOT EXISTS scheduled_job_state (
+    name VARCHAR(80) NOT NULL,
+    locked_until DATETIME(6),
+    locked_by VARCHAR(120),
+    last_started_at DATETIME(6),
+    last_finished_at DATETIME(6),
+    last_status VARCHAR(20),
+    partitions_total INTEGER NOT NULL,
+    partitions_completed INTEGER NOT NULL,
+    items_processed BIGINT NOT NULL,
+    CONSTRAINT pk_scheduled_job_state PRIMARY KEY (name)
+) ENGINE=InnoDB;
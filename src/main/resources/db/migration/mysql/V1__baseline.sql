@@ -0,0 +1,114 @@
+-- Baseline: the schema as previously created by Hibernate ddl-auto. Databases that already have it are
+-- baselined at this version (spring.flyway.baseline-on-migrate) and only run the later migrations.
+-- MySQL has no sequences; Hibernate emulates each one with a single-row next_val table.
+
+CREATE TABLE users_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO users_seq VALUES (1);
+CREATE TABLE vendors_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO vendors_seq VALUES (1);
+CREATE TABLE vendor_documents_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO vendor_documents_seq VALUES (1);
+CREATE TABLE audit_logs_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO audit_logs_seq VALUES (1);
+CREATE TABLE audit_flags_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO audit_flags_seq VALUES (1);
+
+CREATE TABLE users (
+    id BIGINT NOT NULL,
+    username VARCHAR(80) NOT NULL,
+    email VARCHAR(120) NOT NULL,
+    password VARCHAR(120) NOT NULL,
+    full_name VARCHAR(120) NOT NULL,
+    enabled BIT NOT NULL,
+    vendor_id BIGINT,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE=InnoDB;
+
+CREATE TABLE user_roles (
+    user_id BIGINT NOT NULL,
+    role ENUM('ADMIN', 'VENDOR_MANAGER', 'AUDITOR', 'VENDOR') NOT NULL,
+    CONSTRAINT pk_user_roles PRIMARY KEY (user_id, role),
+    CONSTRAINT fk_user_roles_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE vendors (
+    id BIGINT NOT NULL,
+    legal_name VARCHAR(180) NOT NULL,
+    trading_name VARCHAR(180),
+    registration_number VARCHAR(80) NOT NULL,
+    email VARCHAR(120) NOT NULL,
+    phone VARCHAR(40),
+    address VARCHAR(500),
+    status ENUM('PENDING', 'APPROVED', 'REJECTED') NOT NULL,
+    risk_score INTEGER NOT NULL,
+    last_risk_calculated_at DATETIME(6),
+    onboarding_notes VARCHAR(600),
+    created_by VARCHAR(80),
+    updated_by VARCHAR(80),
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    CONSTRAINT pk_vendors PRIMARY KEY (id),
+    CONSTRAINT uk_vendors_registration_number UNIQUE (registration_number)
+) ENGINE=InnoDB;
+
+CREATE TABLE vendor_documents (
+    id BIGINT NOT NULL,
+    vendor_id BIGINT NOT NULL,
+    type ENUM('BUSINESS_LICENSE', 'TAX_CERTIFICATE', 'INSURANCE_CERTIFICATE', 'COMPLIANCE_CERTIFICATE') NOT NULL,
+    file_name VARCHAR(255) NOT NULL,
+    mime_type VARCHAR(120) NOT NULL,
+    sha256 VARCHAR(64),
+    size_bytes BIGINT,
+    storage_key VARCHAR(200),
+    expiry_date DATE NOT NULL,
+    uploaded_by VARCHAR(80) NOT NULL,
+    uploaded_at DATETIME(6) NOT NULL,
+    CONSTRAINT pk_vendor_documents PRIMARY KEY (id),
+    CONSTRAINT fk_vendor_documents_vendor FOREIGN KEY (vendor_id) REFERENCES vendors (id)
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_vendor_documents_vendor_type_uploaded_at ON vendor_documents (vendor_id, type, uploaded_at);
+
+CREATE TABLE audit_logs (
+    id BIGINT NOT NULL,
+    action ENUM('LOGIN', 'VENDOR_ONBOARD_SUBMITTED', 'VENDOR_APPROVED', 'VENDOR_REJECTED', 'DOCUMENT_UPLOADED',
+            'RISK_SCORE_CALCULATED') NOT NULL,
+    actor_username VARCHAR(80) NOT NULL,
+    vendor_id BIGINT,
+    details VARCHAR(1000),
+    created_at DATETIME(6) NOT NULL,
+    CONSTRAINT pk_audit_logs PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_audit_logs_created_at ON audit_logs (created_at, id);
+CREATE INDEX idx_audit_logs_vendor_created_at ON audit_logs (vendor_id, created_at);
+CREATE INDEX idx_audit_logs_action_created_at ON audit_logs (action, created_at);
+CREATE INDEX idx_audit_logs_actor_created_at ON audit_logs (actor_username, created_at);
+
+CREATE TABLE audit_flags (
+    id BIGINT NOT NULL,
+    vendor_id BIGINT NOT NULL,
+    description VARCHAR(250) NOT NULL,
+    resolved BIT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    resolved_at DATETIME(6),
+    CONSTRAINT pk_audit_flags PRIMARY KEY (id),
+    CONSTRAINT fk_audit_flags_vendor FOREIGN KEY (vendor_id) REFERENCES vendors (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE scheduled_job_state (
+    name VARCHAR(80) NOT NULL,
+    locked_until DATETIME(6),
+    locked_by VARCHAR(120),
+    last_started_at DATETIME(6),
+    last_finished_at DATETIME(6),
+    last_status VARCHAR(20),
+    partitions_total INTEGER NOT NULL,
+    partitions_completed INTEGER NOT NULL,
+    items_processed BIGINT NOT NULL,
+    CONSTRAINT pk_scheduled_job_state PRIMARY KEY (name)
+) ENGINE=InnoDB;
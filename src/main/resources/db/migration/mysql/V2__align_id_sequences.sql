@@ -0,0 +1,22 @@
+-- Databases created before sequence-based ids have rows but no (or fresh) next_val tables. Move each one a
+-- full pooled block (50) past both the highest existing id and its own current value.
+
+CREATE TABLE IF NOT EXISTS users_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO users_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM users_seq);
+UPDATE users_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) FROM users)) + 50;
+
+CREATE TABLE IF NOT EXISTS vendors_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO vendors_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM vendors_seq);
+UPDATE vendors_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) FROM vendors)) + 50;
+
+CREATE TABLE IF NOT EXISTS vendor_documents_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO vendor_documents_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM vendor_documents_seq);
+UPDATE vendor_documents_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) FROM vendor_documents)) + 50;
+
+CREATE TABLE IF NOT EXISTS audit_logs_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO audit_logs_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM audit_logs_seq);
+UPDATE audit_logs_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) FROM audit_logs)) + 50;
+
+CREATE TABLE IF NOT EXISTS audit_flags_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO audit_flags_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM audit_flags_seq);
+UPDATE audit_flags_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) FROM audit_flags)) + 50;
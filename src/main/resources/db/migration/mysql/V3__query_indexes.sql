@@ -0,0 +1,30 @@
+-- One index per repository access path. Keyset-paginated lists carry id as the tie-breaker so the ORDER BY
+-- is served straight from the index.
+
+-- VendorRepository.findFirstPage / findPageAfter / streamAll
+CREATE INDEX idx_vendors_created_at_id ON vendors (created_at, id);
+
+-- VendorRepository.findFirstPageByStatus / findPageAfterByStatus / streamByStatus
+CREATE INDEX idx_vendors_status_created_at_id ON vendors (status, created_at, id);
+
+-- VendorRepository.findRiskScoresAtLeast walks an id range of the clustered primary key; no extra index.
+
+-- VendorDocumentRepository.findByVendorIdOrderByUploadedAtDesc
+CREATE INDEX idx_vendor_documents_vendor_uploaded_at ON vendor_documents (vendor_id, uploaded_at);
+
+-- VendorDocumentRepository.findVendorIdsWithExpiredDocuments (vendor id range in vendor order, expiry filter)
+-- and findExpiredDocumentTypes (vendor_id IN, expiry filter, type), both covering
+CREATE INDEX idx_vendor_documents_vendor_expiry_type ON vendor_documents (vendor_id, expiry_date, type);
+
+-- AuditFlagRepository.findByVendorIdAndResolvedFalse / countByVendorIdAndResolvedFalse /
+-- findVendorIdsWithUnresolvedFlag; MySQL has no partial indexes, so resolved follows vendor_id instead
+CREATE INDEX idx_audit_flags_vendor_resolved ON audit_flags (vendor_id, resolved, description);
+
+-- AuditLogRepositoryImpl.findPage / stream: every filtered listing is keyset-ordered by (created_at, id),
+-- so id joins each filter index as the tie-breaker
+DROP INDEX idx_audit_logs_vendor_created_at ON audit_logs;
+CREATE INDEX idx_audit_logs_vendor_created_at ON audit_logs (vendor_id, created_at, id);
+DROP INDEX idx_audit_logs_action_created_at ON audit_logs;
+CREATE INDEX idx_audit_logs_action_created_at ON audit_logs (action, created_at, id);
+DROP INDEX idx_audit_logs_actor_created_at ON audit_logs;
+CREATE INDEX idx_audit_logs_actor_created_at ON audit_logs (actor_username, created_at, id);
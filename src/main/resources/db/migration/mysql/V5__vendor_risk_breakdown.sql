@@ -0,0 +1,2 @@
+-- Component counts behind vendors.risk_score; a recalculation is audited only when the score or this changes
+ALTER TABLE vendors ADD COLUMN risk_breakdown VARCHAR(100);
@@ -0,0 +1,16 @@
+-- audit_logs becomes partitioned on created_at so time-bounded queries prune to the months they touch and
+-- retention drops whole partitions. Existing rows stay in p_history (everything before the current month);
+-- AuditLogPartitionManager splits monthly partitions off p_future from the current month on.
+
+ALTER TABLE audit_logs MODIFY action ENUM('LOGIN', 'VENDOR_ONBOARD_SUBMITTED', 'VENDOR_APPROVED',
+        'VENDOR_REJECTED', 'DOCUMENT_UPLOADED', 'RISK_SCORE_CALCULATED', 'RISK_SCORE_DAILY_SUMMARY') NOT NULL;
+
+-- Every unique key must contain the partition column; ids stay unique through audit_logs_seq
+ALTER TABLE audit_logs DROP PRIMARY KEY, ADD CONSTRAINT pk_audit_logs PRIMARY KEY (id, created_at);
+
+SET @partition_sql = CONCAT('ALTER TABLE audit_logs PARTITION BY RANGE COLUMNS (created_at) (',
+        'PARTITION p_history VALUES LESS THAN (''', DATE_FORMAT(CURRENT_DATE, '%Y-%m-01'), '''), ',
+        'PARTITION p_future VALUES LESS THAN (MAXVALUE))');
+PREPARE partition_statement FROM @partition_sql;
+EXECUTE partition_statement;
+DEALLOCATE PREPARE partition_statement;
@@ -0,0 +1,90 @@
+-- Databases created by earlier releases through Hibernate ddl-auto are baselined at V1 without running it.
+-- Bring them up to what V1 creates; on a database created by V1 every statement here is a no-op.
+
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS vendors_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS vendor_documents_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS audit_logs_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS audit_flags_seq START WITH 1 INCREMENT BY 50;
+
+-- Ids now come from the sequences above (positioned by V2)
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE vendors ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE vendor_documents ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE audit_logs ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE audit_flags ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+-- ddl-auto guarded enum columns with CHECK constraints that would reject values added later
+ALTER TABLE user_roles DROP CONSTRAINT IF EXISTS user_roles_role_check;
+ALTER TABLE vendors DROP CONSTRAINT IF EXISTS vendors_status_check;
+ALTER TABLE vendor_documents DROP CONSTRAINT IF EXISTS vendor_documents_type_check;
+ALTER TABLE audit_logs DROP CONSTRAINT IF EXISTS audit_logs_action_check;
+
+ALTER TABLE vendor_documents ADD COLUMN IF NOT EXISTS sha256 VARCHAR(64);
+ALTER TABLE vendor_documents ADD COLUMN IF NOT EXISTS size_bytes BIGINT;
+ALTER TABLE vendor_documents ADD COLUMN IF NOT EXISTS storage_key VARCHAR(200);
+
+-- Older rows keep their bytes in content until LegacyDocumentContentMigrator moves them; new rows leave it null
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns WHERE table_schema = current_schema()
+            AND table_name = 'vendor_documents' AND column_name = 'content') THEN
+        ALTER TABLE vendor_documents ALTER COLUMN content DROP NOT NULL;
+    END IF;
+END $$;
+
+CREATE INDEX IF NOT EXISTS idx_vendor_documents_vendor_type_uploaded_at
+    ON vendor_documents (vendor_id, type, uploaded_at);
+
+CREATE INDEX IF NOT EXISTS idx_audit_logs_created_at ON audit_logs (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_audit_logs_vendor_created_at ON audit_logs (vendor_id, created_at);
+CREATE INDEX IF NOT EXISTS idx_audit_logs_action_created_at ON audit_logs (action, created_at);
+CREATE INDEX IF NOT EXISTS idx_audit_logs_actor_created_at ON audit_logs (actor_username, created_at);
+
+-- ddl-auto let PostgreSQL and Hibernate name the keys; later migrations refer to them by their V1 names
+DO $$
+DECLARE
+    target RECORD;
+    current_name TEXT;
+BEGIN
+    FOR target IN SELECT * FROM (VALUES
+            ('users', 'p', 'id', 'pk_users'),
+            ('users', 'u', 'username', 'uk_users_username'),
+            ('users', 'u', 'email', 'uk_users_email'),
+            ('user_roles', 'p', 'user_id,role', 'pk_user_roles'),
+            ('user_roles', 'f', 'user_id', 'fk_user_roles_user'),
+            ('vendors', 'p', 'id', 'pk_vendors'),
+            ('vendors', 'u', 'registration_number', 'uk_vendors_registration_number'),
+            ('vendor_documents', 'p', 'id', 'pk_vendor_documents'),
+            ('vendor_documents', 'f', 'vendor_id', 'fk_vendor_documents_vendor'),
+            ('audit_logs', 'p', 'id', 'pk_audit_logs'),
+            ('audit_flags', 'p', 'id', 'pk_audit_flags'),
+            ('audit_flags', 'f', 'vendor_id', 'fk_audit_flags_vendor')
+    ) AS t (table_name, constraint_type, column_names, constraint_name)
+    LOOP
+        SELECT c.conname INTO current_name
+        FROM pg_constraint c
+        WHERE c.conrelid = target.table_name::regclass
+            AND c.contype = target.constraint_type::"char"
+            AND (SELECT string_agg(a.attname, ',' ORDER BY k.position)
+                    FROM unnest(c.conkey) WITH ORDINALITY AS k (attnum, position)
+                    JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = k.attnum) = target.column_names;
+        IF current_name IS NOT NULL AND current_name <> target.constraint_name THEN
+            EXECUTE format('ALTER TABLE %I RENAME CONSTRAINT %I TO %I',
+                    target.table_name, current_name, target.constraint_name);
+        END IF;
+    END LOOP;
+END $$;
+
+CREATE TABLE IF NOT EXISTS scheduled_job_state (
+    name VARCHAR(80) NOT NULL,
+    locked_until TIMESTAMP(6),
+    locked_by VARCHAR(120),
+    last_started_at TIMESTAMP(6),
+    last_finished_at TIMESTAMP(6),
+    last_status VARCHAR(20),
+    partitions_total INTEGER NOT NULL,
+    partitions_completed INTEGER NOT NULL,
+    items_processed BIGINT NOT NULL,
+    CONSTRAINT pk_scheduled_job_state PRIMARY KEY (name)
+);
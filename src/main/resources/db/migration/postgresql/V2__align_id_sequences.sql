@@ -0,0 +1,15 @@
+-- Databases created before sequence-based ids have rows but fresh sequences. Move each sequence one full
+-- pooled block (50) past both the highest existing id and its own current value, so no block handed out
+-- earlier can be reissued.
+
+SELECT setval('users_seq',
+        GREATEST((SELECT last_value FROM users_seq), (SELECT COALESCE(MAX(id), 0) FROM users)) + 50, false);
+SELECT setval('vendors_seq',
+        GREATEST((SELECT last_value FROM vendors_seq), (SELECT COALESCE(MAX(id), 0) FROM vendors)) + 50, false);
+SELECT setval('vendor_documents_seq',
+        GREATEST((SELECT last_value FROM vendor_documents_seq), (SELECT COALESCE(MAX(id), 0) FROM vendor_documents)) + 50,
+        false);
+SELECT setval('audit_logs_seq',
+        GREATEST((SELECT last_value FROM audit_logs_seq), (SELECT COALESCE(MAX(id), 0) FROM audit_logs)) + 50, false);
+SELECT setval('audit_flags_seq',
+        GREATEST((SELECT last_value FROM audit_flags_seq), (SELECT COALESCE(MAX(id), 0) FROM audit_flags)) + 50, false);
@@ -0,0 +1,31 @@
+-- One index per repository access path. Keyset-paginated lists carry id as the tie-breaker so the ORDER BY
+-- is served straight from the index.
+
+-- VendorRepository.findFirstPage / findPageAfter / streamAll
+CREATE INDEX idx_vendors_created_at_id ON vendors (created_at, id);
+
+-- VendorRepository.findFirstPageByStatus / findPageAfterByStatus / streamByStatus
+CREATE INDEX idx_vendors_status_created_at_id ON vendors (status, created_at, id);
+
+-- VendorRepository.findRiskScoresAtLeast walks an id range in id order; index-only scan with the score
+CREATE INDEX idx_vendors_id_risk_score ON vendors (id) INCLUDE (risk_score);
+
+-- VendorDocumentRepository.findByVendorIdOrderByUploadedAtDesc
+CREATE INDEX idx_vendor_documents_vendor_uploaded_at ON vendor_documents (vendor_id, uploaded_at);
+
+-- VendorDocumentRepository.findVendorIdsWithExpiredDocuments (vendor id range in vendor order, expiry filter)
+-- and findExpiredDocumentTypes (vendor_id IN, expiry filter, type), both index-only
+CREATE INDEX idx_vendor_documents_vendor_expiry_type ON vendor_documents (vendor_id, expiry_date, type);
+
+-- AuditFlagRepository.findByVendorIdAndResolvedFalse / countByVendorIdAndResolvedFalse /
+-- findVendorIdsWithUnresolvedFlag: only unresolved flags are ever looked up, so resolved ones stay out
+CREATE INDEX idx_audit_flags_unresolved_vendor ON audit_flags (vendor_id, description) WHERE resolved = false;
+
+-- AuditLogRepositoryImpl.findPage / stream: every filtered listing is keyset-ordered by (created_at, id),
+-- so id joins each filter index as the tie-breaker
+DROP INDEX idx_audit_logs_vendor_created_at;
+CREATE INDEX idx_audit_logs_vendor_created_at ON audit_logs (vendor_id, created_at, id);
+DROP INDEX idx_audit_logs_action_created_at;
+CREATE INDEX idx_audit_logs_action_created_at ON audit_logs (action, created_at, id);
+DROP INDEX idx_audit_logs_actor_created_at;
+CREATE INDEX idx_audit_logs_actor_created_at ON audit_logs (actor_username, created_at, id);
@@ -0,0 +1,33 @@
+-- Per-vendor compliance snapshot maintained by VendorComplianceStateService: the latest document of each type
+-- and the vendor's unresolved audit flag count. POST /api/jobs/compliance-state/rebuild recomputes it.
+
+CREATE TABLE vendor_compliance_state (
+    vendor_id BIGINT NOT NULL,
+    document_type VARCHAR(40) NOT NULL,
+    latest_document_id BIGINT,
+    latest_uploaded_at TIMESTAMP(6),
+    expiry_date DATE,
+    unresolved_flags INTEGER NOT NULL,
+    CONSTRAINT pk_vendor_compliance_state PRIMARY KEY (vendor_id, document_type)
+);
+
+-- VendorComplianceStateRepository.findVendorIdsWithExpiredDocuments
+CREATE INDEX idx_vendor_compliance_state_expiry ON vendor_compliance_state (expiry_date, vendor_id);
+
+-- Backfill every existing vendor with one row per document type
+INSERT INTO vendor_compliance_state
+    (vendor_id, document_type, latest_document_id, latest_uploaded_at, expiry_date, unresolved_flags)
+SELECT v.id, t.document_type, d.id, d.uploaded_at, d.expiry_date, COALESCE(f.unresolved, 0)
+FROM vendors v
+CROSS JOIN (SELECT 'BUSINESS_LICENSE' AS document_type
+        UNION ALL SELECT 'TAX_CERTIFICATE' AS document_type
+        UNION ALL SELECT 'INSURANCE_CERTIFICATE' AS document_type
+        UNION ALL SELECT 'COMPLIANCE_CERTIFICATE' AS document_type) t
+LEFT JOIN (SELECT id, vendor_id, type, uploaded_at, expiry_date,
+        ROW_NUMBER() OVER (PARTITION BY vendor_id, type ORDER BY uploaded_at DESC, id DESC) AS rn
+        FROM vendor_documents) d ON d.vendor_id = v.id AND d.type = t.document_type AND d.rn = 1
+LEFT JOIN (SELECT vendor_id, COUNT(*) AS unresolved FROM audit_flags WHERE resolved = false GROUP BY vendor_id) f
+    ON f.vendor_id = v.id;
+
+-- Expiry scans now read vendor_compliance_state
+DROP INDEX idx_vendor_documents_vendor_expiry_type;
@@ -0,0 +1,48 @@
+-- audit_logs becomes partitioned by month on created_at so time-bounded queries prune to the months they
+-- touch and retention drops whole partitions. AuditLogPartitionManager keeps upcoming months created;
+-- rows outside every monthly partition land in audit_logs_default.
+
+ALTER TABLE audit_logs RENAME TO audit_logs_unpartitioned;
+ALTER TABLE audit_logs_unpartitioned RENAME CONSTRAINT pk_audit_logs TO pk_audit_logs_unpartitioned;
+DROP INDEX idx_audit_logs_created_at;
+DROP INDEX idx_audit_logs_vendor_created_at;
+DROP INDEX idx_audit_logs_action_created_at;
+DROP INDEX idx_audit_logs_actor_created_at;
+
+-- The partition key has to be part of the primary key; ids stay unique through audit_logs_seq
+CREATE TABLE audit_logs (
+    id BIGINT NOT NULL,
+    action VARCHAR(80) NOT NULL,
+    actor_username VARCHAR(80) NOT NULL,
+    vendor_id BIGINT,
+    details VARCHAR(1000),
+    created_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_audit_logs PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE audit_logs_default PARTITION OF audit_logs DEFAULT;
+
+-- One partition per month from the oldest entry through three months ahead
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', COALESCE((SELECT MIN(created_at) FROM audit_logs_unpartitioned), now()))::date;
+    last_month DATE := (date_trunc('month', now()) + interval '3 months')::date;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF audit_logs FOR VALUES FROM (%L) TO (%L)',
+                'audit_logs_p' || to_char(month_start, 'YYYYMM'), month_start,
+                (month_start + interval '1 month')::date);
+        month_start := (month_start + interval '1 month')::date;
+    END LOOP;
+END $$;
+
+INSERT INTO audit_logs (id, action, actor_username, vendor_id, details, created_at)
+SELECT id, action, actor_username, vendor_id, details, created_at FROM audit_logs_unpartitioned;
+
+DROP TABLE audit_logs_unpartitioned;
+
+-- Created on the parent after the copy; every partition gets its own copy of each index
+CREATE INDEX idx_audit_logs_created_at ON audit_logs (created_at, id);
+CREATE INDEX idx_audit_logs_vendor_created_at ON audit_logs (vendor_id, created_at, id);
+CREATE INDEX idx_audit_logs_action_created_at ON audit_logs (action, created_at, id);
+CREATE INDEX idx_audit_logs_actor_created_at ON audit_logs (actor_username, created_at, id);